@@ -0,0 +1,105 @@
+package com.training.studienplaner;
+
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.assignment.AssignmentMapperImpl;
+import com.training.studienplaner.course.Course;
+import com.training.studienplaner.course.CourseMapperImpl;
+import com.training.studienplaner.submission.Submission;
+import com.training.studienplaner.submission.SubmissionMapperImpl;
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserMapperImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Detached entity graphs and generated mappers wired by hand, so mapping and serialization
+// benchmarks run without an application context or a database.
+public final class BenchmarkFixtures {
+
+    private static final LocalDateTime DEADLINE = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Course course(int students, int assignments) {
+        Course course = Course.builder()
+                .courseId(1L)
+                .title("Lineare Algebra")
+                .description("Vektorräume, lineare Abbildungen und Matrizen")
+                .tutor(user(1L, User.Role.TEACHER))
+                .ects((short) 8)
+                .build();
+        Set<User> roster = new LinkedHashSet<>();
+        for (int i = 0; i < students; i++) {
+            roster.add(user(1_000L + i, User.Role.STUDENT));
+        }
+        List<Assignment> tasks = new ArrayList<>(assignments);
+        for (int i = 0; i < assignments; i++) {
+            tasks.add(assignment(i + 1L, course));
+        }
+        course.setStudents(roster);
+        course.setAssignments(tasks);
+        return course;
+    }
+
+    // one submission per student of the course, all for the first assignment
+    public static List<Submission> submissions(Course course) {
+        Assignment assignment = course.getAssignments().get(0);
+        List<Submission> submissions = new ArrayList<>(course.getStudents().size());
+        long id = 1;
+        for (User student : course.getStudents()) {
+            submissions.add(Submission.builder()
+                    .submissionId(id)
+                    .assignment(assignment)
+                    .student(student)
+                    .content("Lösung " + id)
+                    .status(Submission.Status.GRADED)
+                    .grade(1.0 + id % 4)
+                    .build());
+            id++;
+        }
+        return submissions;
+    }
+
+    public static CourseMapperImpl courseMapper() {
+        return new CourseMapperImpl();
+    }
+
+    public static SubmissionMapperImpl submissionMapper() {
+        CourseMapperImpl courseMapper = courseMapper();
+        AssignmentMapperImpl assignmentMapper = new AssignmentMapperImpl();
+        ReflectionTestUtils.setField(assignmentMapper, "courseMapper", courseMapper);
+        UserMapperImpl userMapper = new UserMapperImpl();
+        ReflectionTestUtils.setField(userMapper, "courseMapper", courseMapper);
+        SubmissionMapperImpl submissionMapper = new SubmissionMapperImpl();
+        ReflectionTestUtils.setField(submissionMapper, "assignmentMapper", assignmentMapper);
+        ReflectionTestUtils.setField(submissionMapper, "userMapper", userMapper);
+        return submissionMapper;
+    }
+
+    private static User user(long id, User.Role role) {
+        return User.builder()
+                .userId(id)
+                .name("Vorname" + id)
+                .surname("Nachname" + id)
+                .role(role)
+                .email("user" + id + "@uni.de")
+                .password("password")
+                .build();
+    }
+
+    private static Assignment assignment(long id, Course course) {
+        return Assignment.builder()
+                .assignmentId(id)
+                .title("Übungsblatt " + id)
+                .description("Aufgaben " + id)
+                .type(Assignment.AssignmentType.HOMEWORK)
+                .deadline(DEADLINE.plusWeeks(id))
+                .course(course)
+                .build();
+    }
+}
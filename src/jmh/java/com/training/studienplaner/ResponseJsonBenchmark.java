@@ -0,0 +1,56 @@
+package com.training.studienplaner;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.training.studienplaner.course.Course;
+import com.training.studienplaner.course.CourseResponseDto;
+import com.training.studienplaner.submission.SubmissionResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Serialization of the response records to JSON bytes with an object mapper configured like the
+// one Spring Boot hands to the message converters, for a course with its roster and for the
+// submissions of one assignment.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseJsonBenchmark {
+
+    @Param({"30", "300", "3000"})
+    private int students;
+
+    private ObjectWriter courseWriter;
+    private ObjectWriter submissionsWriter;
+    private CourseResponseDto course;
+    private List<SubmissionResponseDto> submissions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        courseWriter = objectMapper.writerFor(CourseResponseDto.class);
+        submissionsWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, SubmissionResponseDto.class));
+        Course entity = BenchmarkFixtures.course(students, 12);
+        course = BenchmarkFixtures.courseMapper().toResponseDto(entity);
+        submissions = BenchmarkFixtures.submissionMapper().toResponseDto(BenchmarkFixtures.submissions(entity));
+    }
+
+    @Benchmark
+    public byte[] course() throws Exception {
+        return courseWriter.writeValueAsBytes(course);
+    }
+
+    @Benchmark
+    public byte[] submissions() throws Exception {
+        return submissionsWriter.writeValueAsBytes(submissions);
+    }
+}
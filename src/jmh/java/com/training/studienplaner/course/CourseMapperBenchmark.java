@@ -0,0 +1,34 @@
+package com.training.studienplaner.course;
+
+import com.training.studienplaner.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of mapping a course with its full roster and assignments to the response record,
+// which dominates GET /courses/{id} once the entity graph is loaded.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseMapperBenchmark {
+
+    @Param({"30", "300", "3000"})
+    private int students;
+
+    private CourseMapper mapper;
+    private Course course;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = BenchmarkFixtures.courseMapper();
+        course = BenchmarkFixtures.course(students, 12);
+    }
+
+    @Benchmark
+    public CourseResponseDto toResponseDto() {
+        return mapper.toResponseDto(course);
+    }
+}
@@ -0,0 +1,180 @@
+package com.training.studienplaner.loadtest;
+
+import com.training.studienplaner.StudienplanerApplication;
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.assignment.AssignmentRepository;
+import com.training.studienplaner.course.Course;
+import com.training.studienplaner.course.CourseRepository;
+import com.training.studienplaner.security.CustomUserDetails;
+import com.training.studienplaner.security.JwtUtils;
+import com.training.studienplaner.submission.SubmissionService;
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+// Closed-loop HTTP load test of GET /submissions/page, once on Tomcat's platform thread pool
+// and once on virtual threads with the database concurrency limiter. Reports throughput and
+// latency percentiles for both modes.
+//   ./mvnw -Pbenchmark test-compile exec:exec@loadtest -Dloadtest.concurrency=1000 -Dloadtest.requests=50000
+// When started directly, any further --key=value argument is passed to both application
+// runs, e.g. --spring.datasource.url=jdbc:postgresql://... to test against a real database.
+public class VirtualThreadLoadTest {
+
+    private static final AtomicInteger failures = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = intArg(args, "concurrency", 500);
+        int requests = intArg(args, "requests", 20_000);
+        String[] passThrough = Arrays.stream(args)
+                .filter(arg -> !arg.startsWith("--concurrency=") && !arg.startsWith("--requests="))
+                .toArray(String[]::new);
+
+        Result platform = run("platform", false, concurrency, requests, passThrough);
+        Result virtual = run("virtual", true, concurrency, requests, passThrough);
+
+        System.out.printf("%nconcurrency=%d requests=%d%n", concurrency, requests);
+        System.out.printf("%-10s %12s %10s %10s %10s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        platform.print();
+        virtual.print();
+    }
+
+    private static Result run(String mode, boolean virtualThreads, int concurrency, int requests,
+                              String[] passThrough) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StudienplanerApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.docker.compose.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest-" + mode + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "db.concurrency-limit.enabled=" + virtualThreads
+                )
+                .run(passThrough)) {
+            String token = seed(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/submissions/page?limit=50");
+
+            // warm-up pass so both modes are measured with a JIT-compiled request path
+            drive(uri, token, concurrency, Math.max(requests / 10, concurrency));
+            long start = System.nanoTime();
+            long[] latencies = drive(uri, token, concurrency, requests);
+            long elapsed = System.nanoTime() - start;
+            return new Result(mode, latencies, elapsed, failures.getAndSet(0));
+        }
+    }
+
+    private static long[] drive(URI uri, String token, int concurrency, int requests) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        long[] latencies = new long[requests];
+        Semaphore inFlight = new Semaphore(concurrency);
+        failures.set(0);
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                inFlight.acquire();
+                int slot = i;
+                callers.submit(() -> {
+                    long begin = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        latencies[slot] = System.nanoTime() - begin;
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return latencies;
+    }
+
+    private static String seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        User admin = userRepository.save(User.builder()
+                .name("Load")
+                .surname("Test")
+                .role(User.Role.ADMIN)
+                .email("admin@loadtest.de")
+                .password("password")
+                .build());
+
+        Course course = context.getBean(CourseRepository.class).save(Course.builder()
+                .title("Load Test Course")
+                .description("Lecture")
+                .ects((short) 5)
+                .build());
+        List<User> students = new ArrayList<>();
+        IntStream.range(0, 200).forEach(i -> students.add(User.builder()
+                .name("Student" + i)
+                .surname("Load")
+                .role(User.Role.STUDENT)
+                .email("student" + i + "@loadtest.de")
+                .password("password")
+                .coursesList(new HashSet<>(List.of(course)))
+                .build()));
+        userRepository.saveAll(students);
+
+        Assignment assignment = context.getBean(AssignmentRepository.class).save(Assignment.builder()
+                .title("Load Test Assignment")
+                .description("Exam")
+                .type(Assignment.AssignmentType.EXAM)
+                .deadline(LocalDateTime.now().plusDays(14))
+                .course(course)
+                .build());
+        context.getBean(SubmissionService.class).generateSubmissionsForAssignment(assignment);
+
+        return context.getBean(JwtUtils.class).generateToken(new CustomUserDetails(admin));
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        return Arrays.stream(args)
+                .filter(arg -> arg.startsWith("--" + name + "="))
+                .map(arg -> Integer.parseInt(arg.substring(name.length() + 3)))
+                .findFirst()
+                .orElse(defaultValue);
+    }
+
+    private record Result(String mode, long[] latencies, long elapsedNanos, int errors) {
+
+        void print() {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            double throughput = sorted.length / (elapsedNanos / 1e9);
+            System.out.printf("%-10s %12.0f %10.2f %10.2f %10.2f %8d%n", mode, throughput,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6, errors);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
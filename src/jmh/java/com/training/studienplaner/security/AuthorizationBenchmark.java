@@ -0,0 +1,100 @@
+package com.training.studienplaner.security;
+
+import com.training.studienplaner.user.User;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.util.SimpleMethodInvocation;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Per-call cost of the role check in front of a controller method: the former
+// @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER', 'STUDENT')"), evaluated through
+// SpEL with a bean lookup, against @RequireRoles({TEACHER, STUDENT}) resolved by
+// RoleAuthorizationInterceptor. The principal is a student, the last role in the list.
+// canAccessAny measures AuthorizationService.canAccessAny() on its own, without
+// the expression evaluation around it.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationBenchmark {
+
+    public static class Controller {
+
+        @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER', 'STUDENT')")
+        public void spel() {
+        }
+
+        @RequireRoles({User.Role.TEACHER, User.Role.STUDENT})
+        public void requireRoles() {
+        }
+    }
+
+    private CustomUserDetails principal;
+    private AuthorizationService authorizationService;
+    private Supplier<Authentication> authentication;
+    private PreAuthorizeAuthorizationManager preAuthorize;
+    private MethodInvocation spelInvocation;
+    private RoleAuthorizationInterceptor interceptor;
+    private HandlerMethod handlerMethod;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        principal = CustomUserDetails.fromClaims(1L, "student@uni.de", User.Role.STUDENT);
+        Authentication token = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        authentication = () -> token;
+        SecurityContextHolder.getContext().setAuthentication(token);
+
+        authorizationService = new AuthorizationService();
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean("authz", AuthorizationService.class);
+        context.refresh();
+        DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setApplicationContext(context);
+        preAuthorize = new PreAuthorizeAuthorizationManager();
+        preAuthorize.setExpressionHandler(expressionHandler);
+
+        Controller controller = new Controller();
+        spelInvocation = new SimpleMethodInvocation(controller, Controller.class.getMethod("spel"));
+        handlerMethod = new HandlerMethod(controller, "requireRoles");
+        interceptor = new RoleAuthorizationInterceptor(new DefaultListableBeanFactory());
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public boolean canAccessAny() {
+        return authorizationService.canAccessAny(principal, "TEACHER", "STUDENT");
+    }
+
+    @Benchmark
+    public boolean spelPreAuthorize() {
+        return preAuthorize.check(authentication, spelInvocation).isGranted();
+    }
+
+    @Benchmark
+    public boolean requireRolesInterceptor() throws Exception {
+        return interceptor.preHandle(request, response, handlerMethod);
+    }
+}
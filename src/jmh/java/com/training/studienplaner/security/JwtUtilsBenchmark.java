@@ -0,0 +1,63 @@
+package com.training.studienplaner.security;
+
+import com.training.studienplaner.user.User;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Per-call cost of the public JwtUtils operations on the login and request paths:
+// issuing a signed token, validating it and parsing its claims into a principal. The
+// verified-token cache is disabled so every call signs or verifies; the cached path is
+// covered by JwtVerificationBenchmark.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private JwtUtils jwtUtils;
+    private CustomUserDetails principal;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "secret", "as78df79wefhw94yf98w4f8hwef8h2f98wefh2uwhf923hf");
+        ReflectionTestUtils.setField(jwtUtils, "expiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheSize", 0L);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheTtl", Duration.ofSeconds(30));
+        jwtUtils.init();
+        principal = new CustomUserDetails(User.builder()
+                .userId(1L)
+                .email("student@uni.de")
+                .password("password")
+                .role(User.Role.STUDENT)
+                .build());
+        token = jwtUtils.generateToken(principal);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateToken(principal);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtUtils.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return jwtUtils.getClaimsFromToken(token);
+    }
+
+    @Benchmark
+    public CustomUserDetails parseToPrincipal() {
+        return jwtUtils.getUserDetailsFromClaims(jwtUtils.getClaimsFromToken(token));
+    }
+}
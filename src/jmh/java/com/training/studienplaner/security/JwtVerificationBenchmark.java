@@ -0,0 +1,75 @@
+package com.training.studienplaner.security;
+
+import com.training.studienplaner.user.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Requests per millisecond the authentication filter can handle for token checks: the former
+// path that built a parser and verified the signature twice, against a single verification
+// with the shared parser, with and without the verified-token cache.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "as78df79wefhw94yf98w4f8hwef8h2f98wefh2uwhf923hf";
+
+    private Key key;
+    private JwtUtils uncached;
+    private JwtUtils cached;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncached = jwtUtils(0);
+        cached = jwtUtils(10_000);
+        token = uncached.generateToken(new CustomUserDetails(User.builder()
+                .userId(1L)
+                .email("student@uni.de")
+                .password("password")
+                .role(User.Role.STUDENT)
+                .build()));
+    }
+
+    private static JwtUtils jwtUtils(long cacheSize) {
+        JwtUtils utils = new JwtUtils();
+        ReflectionTestUtils.setField(utils, "secret", SECRET);
+        ReflectionTestUtils.setField(utils, "expiration", 3_600_000L);
+        ReflectionTestUtils.setField(utils, "verifiedCacheSize", cacheSize);
+        ReflectionTestUtils.setField(utils, "verifiedCacheTtl", Duration.ofSeconds(30));
+        utils.init();
+        return utils;
+    }
+
+    @Benchmark
+    public String legacyDoubleParse() {
+        String username = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return username;
+    }
+
+    @Benchmark
+    public Claims verifyOnce() {
+        return uncached.verifyAndExtract(token).claims();
+    }
+
+    @Benchmark
+    public Claims verifyCached() {
+        return cached.verifyAndExtract(token).claims();
+    }
+}
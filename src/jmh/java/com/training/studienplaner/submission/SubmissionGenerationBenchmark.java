@@ -0,0 +1,118 @@
+package com.training.studienplaner.submission;
+
+import com.training.studienplaner.StudienplanerApplication;
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.assignment.AssignmentRepository;
+import com.training.studienplaner.course.Course;
+import com.training.studienplaner.course.CourseRepository;
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Compares placeholder generation for a new assignment: the set-based INSERT ... SELECT
+// against the former one-INSERT-per-student path. Every invocation is rolled back so the
+// table size stays constant across iterations.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubmissionGenerationBenchmark {
+
+    @Param({"100", "1500", "5000"})
+    private int students;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private SubmissionService submissionService;
+    private SubmissionRepository submissionRepository;
+    private CourseRepository courseRepository;
+    private Assignment assignment;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(StudienplanerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.docker.compose.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "spring.datasource.url=jdbc:h2:mem:generation-benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"
+                )
+                .run();
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        submissionService = context.getBean(SubmissionService.class);
+        submissionRepository = context.getBean(SubmissionRepository.class);
+        courseRepository = context.getBean(CourseRepository.class);
+
+        Course course = courseRepository.save(Course.builder()
+                .title("Benchmark Course")
+                .description("Lecture")
+                .ects((short) 5)
+                .build());
+
+        List<User> roster = IntStream.range(0, students)
+                .mapToObj(i -> User.builder()
+                        .name("Student" + i)
+                        .surname("Benchmark")
+                        .role(User.Role.STUDENT)
+                        .email("student" + i + "@benchmark.de")
+                        .password("password")
+                        .coursesList(Set.of(course))
+                        .build())
+                .toList();
+        context.getBean(UserRepository.class).saveAll(roster);
+
+        assignment = context.getBean(AssignmentRepository.class).save(Assignment.builder()
+                .title("Benchmark Assignment")
+                .description("Exam")
+                .type(Assignment.AssignmentType.EXAM)
+                .deadline(LocalDateTime.now().plusDays(14))
+                .course(course)
+                .build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Integer insertSelect() {
+        return transactionTemplate.execute(status -> {
+            int created = submissionService.generateSubmissionsForAssignment(assignment);
+            status.setRollbackOnly();
+            return created;
+        });
+    }
+
+    @Benchmark
+    public Integer insertPerStudent() {
+        return transactionTemplate.execute(status -> {
+            Course course = courseRepository.findById(assignment.getCourse().getCourseId()).orElseThrow();
+            List<Submission> submissions = course.getStudents().stream()
+                    .filter(user -> user.getRole() == User.Role.STUDENT)
+                    .map(student -> Submission.builder()
+                            .assignment(assignment)
+                            .student(student)
+                            .status(Submission.Status.NOT_SUBMITTED)
+                            .build())
+                    .toList();
+            int created = submissionRepository.saveAll(submissions).size();
+            submissionRepository.flush();
+            status.setRollbackOnly();
+            return created;
+        });
+    }
+}
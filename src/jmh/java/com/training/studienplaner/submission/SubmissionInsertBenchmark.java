@@ -0,0 +1,116 @@
+package com.training.studienplaner.submission;
+
+import com.training.studienplaner.StudienplanerApplication;
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.assignment.AssignmentRepository;
+import com.training.studienplaner.course.Course;
+import com.training.studienplaner.course.CourseRepository;
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Entity insert throughput through saveAll() with JDBC batching off (batchSize 0, one
+// round trip per row) and on (50 rows per round trip). Ids come from the pooled sequence in
+// both variants, so the difference is the statement round trips alone. That cost only shows
+// against a real server, so the benchmark runs on PostgreSQL with the application's schema:
+// -Dbenchmark.datasource.url (default: the docker-compose database), .username and .password.
+// Every invocation is rolled back so the table size stays constant across iterations; the
+// fixture rows are removed again after the trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubmissionInsertBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final String DEFAULT_URL = "jdbc:postgresql://localhost:5432/studienplaner?reWriteBatchedInserts=true";
+
+    @Param({"0", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private SubmissionRepository submissionRepository;
+    private Course course;
+    private Assignment assignment;
+    private List<User> students;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // passed as arguments, default properties would lose against application.properties
+        context = new SpringApplicationBuilder(StudienplanerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.docker.compose.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--spring.datasource.url=" + System.getProperty("benchmark.datasource.url", DEFAULT_URL),
+                        "--spring.datasource.username=" + System.getProperty("benchmark.datasource.username", "student"),
+                        "--spring.datasource.password=" + System.getProperty("benchmark.datasource.password", "secret"),
+                        "--jwt.secret=as78df79wefhw94yf98w4f8hwef8h2f98wefh2uwhf923hf",
+                        "--jwt.expiration=900000"
+                );
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        submissionRepository = context.getBean(SubmissionRepository.class);
+
+        course = context.getBean(CourseRepository.class).save(Course.builder()
+                .title("Benchmark Course")
+                .ects((short) 5)
+                .build());
+        // the database outlives the trial, the addresses must not collide with an earlier run
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        students = context.getBean(UserRepository.class).saveAll(IntStream.range(0, ROWS)
+                .mapToObj(i -> User.builder()
+                        .name("Student" + i)
+                        .surname("Benchmark")
+                        .role(User.Role.STUDENT)
+                        .email("student" + i + "-" + runId + "@benchmark.de")
+                        .password("password")
+                        .build())
+                .toList());
+        assignment = context.getBean(AssignmentRepository.class).save(Assignment.builder()
+                .title("Benchmark Assignment")
+                .type(Assignment.AssignmentType.HOMEWORK)
+                .deadline(LocalDateTime.now().plusDays(7))
+                .course(course)
+                .build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.getBean(AssignmentRepository.class).delete(assignment);
+        context.getBean(CourseRepository.class).delete(course);
+        context.getBean(UserRepository.class).deleteAllInBatch(students);
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Integer saveAll() {
+        return transactionTemplate.execute(status -> {
+            List<Submission> submissions = students.stream()
+                    .map(student -> Submission.builder()
+                            .assignment(assignment)
+                            .student(student)
+                            .status(Submission.Status.SUBMITTED)
+                            .content("Abgabe")
+                            .build())
+                    .toList();
+            int created = submissionRepository.saveAll(submissions).size();
+            submissionRepository.flush();
+            status.setRollbackOnly();
+            return created;
+        });
+    }
+}
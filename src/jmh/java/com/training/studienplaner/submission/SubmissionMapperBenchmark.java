@@ -0,0 +1,35 @@
+package com.training.studienplaner.submission;
+
+import com.training.studienplaner.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Cost of mapping a page or an export-sized list of submissions to response records, each
+// with its nested assignment, course and student.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubmissionMapperBenchmark {
+
+    @Param({"50", "1000"})
+    private int submissions;
+
+    private SubmissionMapper mapper;
+    private List<Submission> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = BenchmarkFixtures.submissionMapper();
+        list = BenchmarkFixtures.submissions(BenchmarkFixtures.course(submissions, 1));
+    }
+
+    @Benchmark
+    public List<SubmissionResponseDto> toResponseDto() {
+        return mapper.toResponseDto(list);
+    }
+}
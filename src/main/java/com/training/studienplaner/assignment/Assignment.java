@@ -3,6 +3,8 @@ package com.training.studienplaner.assignment;
 import com.training.studienplaner.course.Course;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -13,12 +15,24 @@ import java.time.LocalDateTime;
 @ToString
 @NoArgsConstructor
 @Entity
-@Table(name = "assignment")
+@NamedEntityGraph(name = Assignment.WITH_COURSE, attributeNodes = @NamedAttributeNode("course"))
+@Table(
+        name = "assignment",
+        indexes = {
+                @Index(name = "idx_assignment_course_deadline", columnList = "course_id, deadline, assignment_id"),
+                @Index(name = "idx_assignment_deadline", columnList = "deadline")
+        }
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "assignment")
 public class Assignment {
+    public static final String WITH_COURSE = "Assignment.withCourse";
+
     @Id
     @GeneratedValue(
-            strategy = GenerationType.IDENTITY
+            strategy = GenerationType.SEQUENCE,
+            generator = "assignment_seq"
     )
+    @SequenceGenerator(name = "assignment_seq", sequenceName = "assignment_seq", allocationSize = 50)
     private Long assignmentId;
 
     @Column(
@@ -50,8 +64,11 @@ public class Assignment {
     @Column(name = "deadline")
     private LocalDateTime deadline;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id")
     private Course course;
 
+    @Version
+    private long version;
+
 }
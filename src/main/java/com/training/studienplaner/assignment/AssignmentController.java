@@ -1,13 +1,17 @@
 package com.training.studienplaner.assignment;
 
+import com.training.studienplaner.security.RequireRoles;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
+import static com.training.studienplaner.user.User.Role.STUDENT;
+import static com.training.studienplaner.user.User.Role.TEACHER;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/assignments")
@@ -16,28 +20,32 @@ public class AssignmentController {
     private final AssignmentService assignmentService;
 
     @GetMapping
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER', 'STUDENT')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<List<AssignmentResponseDto>> getAllAssignments() {
         List<AssignmentResponseDto> response = assignmentService.getAllAssignments();
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER', 'STUDENT')")
-    public ResponseEntity<AssignmentResponseDto> getAssignmentById(@PathVariable Long id) {
+    @RequireRoles({TEACHER, STUDENT})
+    public ResponseEntity<AssignmentResponseDto> getAssignmentById(@PathVariable Long id, WebRequest request) {
+        String etag = "a" + assignmentService.getAssignmentVersion(id);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         AssignmentResponseDto response = assignmentService.getAssignmentById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @PostMapping
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<AssignmentResponseDto> createAssignment(@RequestBody AssignmentRequestDto dto) {
         AssignmentResponseDto response = assignmentService.createAssignment(dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<Void> deleteAssignment(@PathVariable Long id) {
         assignmentService.deleteAssignmentById(id);
         return ResponseEntity.noContent().build();
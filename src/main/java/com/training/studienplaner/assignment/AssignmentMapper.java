@@ -15,6 +15,7 @@ import java.util.List;
 public interface AssignmentMapper {
     // RequestDTO -> Entity
     @Mapping(target = "course", source = "courseId", qualifiedByName = "mapCourse")
+    @Mapping(target = "version", ignore = true)
     Assignment toEntity(AssignmentRequestDto dto, @Context CourseRepository courseRepository);
 
     // Entity -> ResponseDTO
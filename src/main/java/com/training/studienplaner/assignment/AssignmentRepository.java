@@ -1,8 +1,30 @@
 package com.training.studienplaner.assignment;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
+
+    @Override
+    @EntityGraph(Assignment.WITH_COURSE)
+    Optional<Assignment> findById(Long id);
+
+    // result ids come from the query cache, the rows from the assignment and course regions
+    @Override
+    @EntityGraph(Assignment.WITH_COURSE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Assignment> findAll();
+
+    @Query("select a.version from Assignment a where a.assignmentId = :assignmentId")
+    Optional<Long> findVersionById(@Param("assignmentId") Long assignmentId);
 }
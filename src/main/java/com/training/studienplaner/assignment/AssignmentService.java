@@ -1,10 +1,15 @@
 package com.training.studienplaner.assignment;
 
+import com.training.studienplaner.cache.EntityChangeEvent;
+import com.training.studienplaner.config.CacheConfig;
 import com.training.studienplaner.course.CourseRepository;
 import com.training.studienplaner.submission.SubmissionService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -16,28 +21,43 @@ public class AssignmentService {
     private final CourseRepository courseRepository;
     private final AssignmentMapper assignmentMapper;
     private final SubmissionService submissionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<AssignmentResponseDto> getAllAssignments() {
         List<Assignment> assignments = assignmentRepository.findAll();
         return assignmentMapper.toResponseDto(assignments);
     }
 
+    @Cacheable(cacheNames = CacheConfig.ASSIGNMENTS, key = "#id")
     public AssignmentResponseDto getAssignmentById(Long id) {
         Assignment assignment = assignmentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Assignment not found"));
         return assignmentMapper.toResponseDto(assignment);
     }
 
+    public long getAssignmentVersion(Long id) {
+        return assignmentRepository.findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Assignment not found"));
+    }
+
+    @Transactional
     public void deleteAssignmentById(Long id) {
         Assignment assignment = assignmentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Assignment not found"));
         assignmentRepository.delete(assignment);
+        eventPublisher.publishEvent(EntityChangeEvent.assignment(id, courseIdOf(assignment)));
     }
 
+    @Transactional
     public AssignmentResponseDto createAssignment(AssignmentRequestDto dto) {
         Assignment assignment = assignmentMapper.toEntity(dto, courseRepository);
         Assignment saved = assignmentRepository.save(assignment);
         submissionService.generateSubmissionsForAssignment(saved);
+        eventPublisher.publishEvent(EntityChangeEvent.assignment(saved.getAssignmentId(), courseIdOf(saved)));
         return assignmentMapper.toResponseDto(saved);
     }
+
+    private static Long courseIdOf(Assignment assignment) {
+        return assignment.getCourse() != null ? assignment.getCourse().getCourseId() : null;
+    }
 }
@@ -0,0 +1,78 @@
+package com.training.studienplaner.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.training.studienplaner.ratelimit.TokenBucket;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+// Separate buckets per account and per client IP: the account bucket slows down guessing one
+// password from many addresses, the IP bucket one address trying many accounts. An idle bucket
+// is full again after capacity * refill period, so it is dropped from the cache after that.
+@Component
+public class LoginRateLimiter {
+
+    private final Ticker ticker;
+    private final Limit account;
+    private final Limit ip;
+    private final Cache<String, TokenBucket> accountBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+
+    @Autowired
+    public LoginRateLimiter(@Value("${login.rate-limit.account.capacity:5}") long accountCapacity,
+                            @Value("${login.rate-limit.account.refill-period:PT1M}") Duration accountRefill,
+                            @Value("${login.rate-limit.ip.capacity:20}") long ipCapacity,
+                            @Value("${login.rate-limit.ip.refill-period:PT6S}") Duration ipRefill,
+                            @Value("${login.rate-limit.maximum-keys:100000}") long maximumKeys) {
+        this(new Limit(accountCapacity, accountRefill), new Limit(ipCapacity, ipRefill), maximumKeys, Ticker.systemTicker());
+    }
+
+    LoginRateLimiter(Limit account, Limit ip, long maximumKeys, Ticker ticker) {
+        this.ticker = ticker;
+        this.account = account;
+        this.ip = ip;
+        this.accountBuckets = buckets(account, maximumKeys, ticker);
+        this.ipBuckets = buckets(ip, maximumKeys, ticker);
+    }
+
+    // takes a token from both buckets or from neither
+    public void acquire(String email, String clientIp) {
+        long now = ticker.read();
+        TokenBucket ipBucket = ipBuckets.get(clientIp, key -> ip.newBucket(now));
+        long ipWait = ipBucket.tryConsume(now);
+        if (ipWait > 0) {
+            throw new LoginThrottledException(retryAfter(ipWait));
+        }
+        TokenBucket accountBucket = accountBuckets.get(email.toLowerCase(Locale.ROOT), key -> account.newBucket(now));
+        long accountWait = accountBucket.tryConsume(now);
+        if (accountWait > 0) {
+            ipBucket.refund();
+            throw new LoginThrottledException(retryAfter(accountWait));
+        }
+    }
+
+    private static Cache<String, TokenBucket> buckets(Limit limit, long maximumKeys, Ticker ticker) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(limit.refillPeriod().multipliedBy(limit.capacity()))
+                .ticker(ticker)
+                .build();
+    }
+
+    // Retry-After has whole seconds
+    private static Duration retryAfter(long waitNanos) {
+        return Duration.ofSeconds(Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L));
+    }
+
+    record Limit(long capacity, Duration refillPeriod) {
+
+        TokenBucket newBucket(long now) {
+            return new TokenBucket(capacity, refillPeriod.toNanos(), now);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.training.studienplaner.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record LoginRequestDto(
+        @NotBlank String email,
+        @NotBlank String password
+) {
+}
@@ -0,0 +1,113 @@
+package com.training.studienplaner.auth;
+
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@Service
+public class LoginService {
+
+    static final String TOKEN_TYPE = "Bearer";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerificationPool verificationPool;
+    private final LoginRateLimiter rateLimiter;
+    private final RefreshTokenService refreshTokenService;
+    private final UserCache userCache;
+    private final MeterRegistry meterRegistry;
+    // checked for unknown emails, so they take as long as a wrong password
+    private final String dummyHash;
+
+    public LoginService(UserRepository userRepository,
+                        PasswordEncoder passwordEncoder,
+                        PasswordVerificationPool verificationPool,
+                        LoginRateLimiter rateLimiter,
+                        RefreshTokenService refreshTokenService,
+                        UserCache userCache,
+                        MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.verificationPool = verificationPool;
+        this.rateLimiter = rateLimiter;
+        this.refreshTokenService = refreshTokenService;
+        this.userCache = userCache;
+        this.meterRegistry = meterRegistry;
+        this.dummyHash = passwordEncoder.encode("dummy-password-for-unknown-users");
+    }
+
+    public TokenResponseDto login(LoginRequestDto dto, String clientIp) {
+        if (dto == null || isBlank(dto.email()) || isBlank(dto.password())) {
+            throw new IllegalArgumentException("Email and password are required");
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            TokenResponseDto response = authenticate(dto.email().trim(), dto.password(), clientIp);
+            outcome = "success";
+            return response;
+        } catch (BadCredentialsException e) {
+            outcome = "bad_credentials";
+            throw e;
+        } catch (LoginThrottledException e) {
+            outcome = "throttled";
+            throw e;
+        } catch (LoginUnavailableException e) {
+            outcome = "unavailable";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("auth.login")
+                    .description("Login requests including throttling and password verification")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private TokenResponseDto authenticate(String email, String password, String clientIp) {
+        rateLimiter.acquire(email, clientIp);
+        User user = userRepository.findByEmail(email).orElse(null);
+        String verifiedHash = verificationPool.verify(() -> verify(user, password));
+        if (verifiedHash == null) {
+            throw new BadCredentialsException("Invalid email or password");
+        }
+        if (!verifiedHash.equals(user.getPassword())) {
+            user.setPassword(verifiedHash);
+            userRepository.save(user);
+            userCache.removeUserFromCache(user.getEmail());
+        }
+        return refreshTokenService.issue(user);
+    }
+
+    // runs on the verification pool; returns the hash to keep, or null if the password is wrong
+    private String verify(User user, String password) {
+        if (user == null) {
+            passwordEncoder.matches(password, dummyHash);
+            return null;
+        }
+        String stored = user.getPassword();
+        if (isBcryptHash(stored)) {
+            return passwordEncoder.matches(password, stored) ? stored : null;
+        }
+        // accounts created before passwords were hashed: compare in constant time, hash on success
+        boolean matches = stored != null && MessageDigest.isEqual(
+                stored.getBytes(StandardCharsets.UTF_8), password.getBytes(StandardCharsets.UTF_8));
+        return matches ? passwordEncoder.encode(password) : null;
+    }
+
+    private static boolean isBcryptHash(String value) {
+        return value != null && value.length() == 60 && value.startsWith("$2");
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,16 @@
+package com.training.studienplaner.auth;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class LoginUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoginUnavailableException(Duration retryAfter) {
+        super("Login is temporarily overloaded, please retry later");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,70 @@
+package com.training.studienplaner.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// BCrypt costs tens of milliseconds of CPU per check. Running the checks on a few dedicated
+// threads with a bounded queue caps the CPU a login burst can take; requests beyond the queue
+// are turned away with 503 right away instead of piling up on the request threads.
+@Component
+public class PasswordVerificationPool implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService monitoredExecutor;
+    private final Duration timeout;
+
+    public PasswordVerificationPool(@Value("${login.verification.threads:4}") int threads,
+                                    @Value("${login.verification.queue-capacity:64}") int queueCapacity,
+                                    @Value("${login.verification.timeout:PT5S}") Duration timeout,
+                                    MeterRegistry meterRegistry) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-verification-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.monitoredExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, "login.password-verification");
+        this.timeout = timeout;
+    }
+
+    public <T> T verify(Callable<T> check) {
+        Future<T> future;
+        try {
+            future = monitoredExecutor.submit(check);
+        } catch (RejectedExecutionException e) {
+            throw new LoginUnavailableException(Duration.ofSeconds(1));
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new LoginUnavailableException(Duration.ofSeconds(1));
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginUnavailableException(Duration.ofSeconds(1));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
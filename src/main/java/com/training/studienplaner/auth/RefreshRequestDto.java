@@ -0,0 +1,6 @@
+package com.training.studienplaner.auth;
+
+public record RefreshRequestDto(
+        String refreshToken
+) {
+}
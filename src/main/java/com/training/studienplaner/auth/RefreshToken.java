@@ -0,0 +1,57 @@
+package com.training.studienplaner.auth;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// Only the SHA-256 hash of the opaque token is stored. Every refresh replaces the token by a
+// new one of the same family; presenting a used token again revokes the whole family.
+// The access token issued together with the refresh token is remembered so it can be revoked too.
+@Getter
+@Setter
+@AllArgsConstructor
+@Builder
+@ToString
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "refresh_token",
+        indexes = {
+                @Index(name = "idx_refresh_token_family", columnList = "family_id"),
+                @Index(name = "idx_refresh_token_user", columnList = "user_id")
+        }
+)
+public class RefreshToken {
+
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    @Column(name = "token_hash", length = 64, nullable = false, unique = true)
+    private String tokenHash;
+
+    @Column(name = "family_id", length = 36, nullable = false)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "used_at")
+    private Instant usedAt;
+
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
+    @Column(name = "access_token_id", length = 36, nullable = false)
+    private String accessTokenId;
+
+    @Column(name = "access_expires_at", nullable = false)
+    private Instant accessExpiresAt;
+}
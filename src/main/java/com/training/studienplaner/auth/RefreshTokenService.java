@@ -0,0 +1,190 @@
+package com.training.studienplaner.auth;
+
+import com.training.studienplaner.security.CustomUserDetails;
+import com.training.studienplaner.security.IssuedToken;
+import com.training.studienplaner.security.JwtUtils;
+import com.training.studienplaner.security.RevokedAccessToken;
+import com.training.studienplaner.security.RevokedAccessTokenRepository;
+import com.training.studienplaner.security.TokenRevocationRegistry;
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+// Issues short-lived access tokens together with opaque, rotating refresh tokens.
+// A refresh token can be used once; a second use means it was stolen (or the client is
+// broken), so the whole family is revoked together with the access tokens issued from it.
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final UserRepository userRepository;
+    private final JwtUtils jwtUtils;
+    private final Duration refreshExpiration;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               RevokedAccessTokenRepository revokedAccessTokenRepository,
+                               TokenRevocationRegistry revocationRegistry,
+                               UserRepository userRepository,
+                               JwtUtils jwtUtils,
+                               @Value("${jwt.refresh.expiration:PT336H}") Duration refreshExpiration) {
+        this(refreshTokenRepository, revokedAccessTokenRepository, revocationRegistry, userRepository,
+                jwtUtils, refreshExpiration, Clock.systemUTC());
+    }
+
+    RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                        RevokedAccessTokenRepository revokedAccessTokenRepository,
+                        TokenRevocationRegistry revocationRegistry,
+                        UserRepository userRepository,
+                        JwtUtils jwtUtils,
+                        Duration refreshExpiration,
+                        Clock clock) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.revocationRegistry = revocationRegistry;
+        this.userRepository = userRepository;
+        this.jwtUtils = jwtUtils;
+        this.refreshExpiration = refreshExpiration;
+        this.clock = clock;
+    }
+
+    // starts a new family, called after a successful login
+    @Transactional
+    public TokenResponseDto issue(User user) {
+        refreshTokenRepository.deleteExpiredByUserId(user.getUserId(), clock.instant());
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    // the failed reuse check has to commit the revocation of the family
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public TokenResponseDto refresh(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        Instant now = clock.instant();
+        if (current.getRevokedAt() != null) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        if (current.getUsedAt() != null) {
+            log.warn("Refresh token of user {} was reused, revoking its family", current.getUserId());
+            revoke(refreshTokenRepository.findByFamilyId(current.getFamilyId()), now);
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new BadCredentialsException("Refresh token expired");
+        }
+        // the user is read again, so a changed role ends up in the new access token
+        User user = userRepository.findById(current.getUserId())
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        current.setUsedAt(now);
+        return issue(user, current.getFamilyId());
+    }
+
+    // unknown or already revoked tokens are ignored, logging out twice is not an error
+    @Transactional
+    public void logout(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .ifPresent(token -> revoke(refreshTokenRepository.findByFamilyId(token.getFamilyId()), clock.instant()));
+    }
+
+    // ends every session of the user, e.g. before the account is deleted or its role changes
+    @Transactional
+    public void revokeSessions(Long userId) {
+        revoke(refreshTokenRepository.findByUserId(userId), clock.instant());
+    }
+
+    private TokenResponseDto issue(User user, String familyId) {
+        IssuedToken accessToken = jwtUtils.issueToken(new CustomUserDetails(user));
+        String refreshToken = newRefreshToken();
+        Instant now = clock.instant();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenId(UUID.randomUUID().toString())
+                .tokenHash(hash(refreshToken))
+                .familyId(familyId)
+                .userId(user.getUserId())
+                .createdAt(now)
+                .expiresAt(now.plus(refreshExpiration))
+                .accessTokenId(accessToken.tokenId())
+                .accessExpiresAt(accessToken.expiresAt())
+                .build());
+        return new TokenResponseDto(accessToken.token(), LoginService.TOKEN_TYPE,
+                Duration.ofMillis(jwtUtils.getExpiration()).toSeconds(),
+                refreshToken, refreshExpiration.toSeconds());
+    }
+
+    private void revoke(List<RefreshToken> tokens, Instant now) {
+        List<RevokedAccessToken> accessTokens = new ArrayList<>();
+        for (RefreshToken token : tokens) {
+            if (token.getRevokedAt() == null) {
+                token.setRevokedAt(now);
+            }
+            if (token.getAccessExpiresAt().isAfter(now)) {
+                accessTokens.add(RevokedAccessToken.builder()
+                        .tokenId(token.getAccessTokenId())
+                        .expiresAt(token.getAccessExpiresAt())
+                        .revokedAt(now)
+                        .build());
+            }
+        }
+        revokedAccessTokenRepository.saveAll(accessTokens);
+        // a revocation that is rolled back must not stay in the in-memory copy
+        afterCommit(() -> revocationRegistry.revokeAll(accessTokens));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private String newRefreshToken() {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static String hash(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
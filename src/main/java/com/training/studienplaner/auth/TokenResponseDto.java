@@ -0,0 +1,10 @@
+package com.training.studienplaner.auth;
+
+public record TokenResponseDto(
+        String token,
+        String tokenType,
+        long expiresIn,
+        String refreshToken,
+        long refreshExpiresIn
+) {
+}
@@ -0,0 +1,50 @@
+package com.training.studienplaner.cache;
+
+// id == null means "any entity of this type", e.g. a bulk enrollment into one course;
+// parentId is the owning course (assignment, enrollment) or assignment (submission)
+public record EntityChangeEvent(Type type, Long id, Long parentId) {
+
+    public enum Type {
+        COURSE, ASSIGNMENT, SUBMISSION, ENROLLMENT, USER
+    }
+
+    public static EntityChangeEvent course(Long courseId) {
+        return new EntityChangeEvent(Type.COURSE, courseId, null);
+    }
+
+    public static EntityChangeEvent assignment(Long assignmentId, Long courseId) {
+        return new EntityChangeEvent(Type.ASSIGNMENT, assignmentId, courseId);
+    }
+
+    public static EntityChangeEvent submission(Long submissionId, Long assignmentId) {
+        return new EntityChangeEvent(Type.SUBMISSION, submissionId, assignmentId);
+    }
+
+    public static EntityChangeEvent enrollment(Long userId, Long courseId) {
+        return new EntityChangeEvent(Type.ENROLLMENT, userId, courseId);
+    }
+
+    public static EntityChangeEvent user(Long userId) {
+        return new EntityChangeEvent(Type.USER, userId, null);
+    }
+
+    public String toPayload() {
+        return type + ":" + format(id) + ":" + format(parentId);
+    }
+
+    public static EntityChangeEvent fromPayload(String payload) {
+        String[] parts = payload.split(":", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed entity change payload: " + payload);
+        }
+        return new EntityChangeEvent(Type.valueOf(parts[0]), parse(parts[1]), parse(parts[2]));
+    }
+
+    private static String format(Long value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static Long parse(String value) {
+        return value.isEmpty() ? null : Long.valueOf(value);
+    }
+}
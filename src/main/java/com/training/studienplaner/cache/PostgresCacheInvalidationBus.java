@@ -0,0 +1,181 @@
+package com.training.studienplaner.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+
+// every replica sends its committed entity changes with NOTIFY and evicts what the others send,
+// then republishes them as ReplicatedEntityChangeEvents for other followers such as the reminders;
+// the LISTEN connection is opened outside the pool so it never holds a pooled connection
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "read-model-cache.invalidation.enabled", havingValue = "true")
+public class PostgresCacheInvalidationBus implements SmartLifecycle {
+
+    private static final String SEPARATOR = "|";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ReadModelCacheInvalidator invalidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcConnectionDetails connectionDetails;
+    private final String channel;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listener;
+
+    public PostgresCacheInvalidationBus(ReadModelCacheInvalidator invalidator,
+                                        ApplicationEventPublisher eventPublisher,
+                                        JdbcTemplate jdbcTemplate,
+                                        JdbcConnectionDetails connectionDetails,
+                                        @Value("${read-model-cache.invalidation.channel:read_model_invalidation}") String channel,
+                                        @Value("${read-model-cache.invalidation.poll-timeout:PT1S}") Duration pollTimeout,
+                                        @Value("${read-model-cache.invalidation.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        // LISTEN takes an identifier, which cannot be passed as a bind parameter
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid notification channel: " + channel);
+        }
+        this.invalidator = invalidator;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.connectionDetails = connectionDetails;
+        this.channel = channel;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    // NOTIFY is transactional in Postgres: inside a write transaction it is delivered on commit
+    // and dropped on rollback, so it is sent right away rather than from an after-commit hook
+    @EventListener
+    public void publish(EntityChangeEvent event) {
+        String payload = nodeId + SEPARATOR + event.toPayload();
+        try {
+            jdbcTemplate.execute("select pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) statement -> {
+                statement.setString(1, channel);
+                statement.setString(2, payload);
+                return statement.execute();
+            });
+        } catch (DataAccessException e) {
+            // other replicas catch up when their entries expire
+            log.warn("Could not publish cache invalidation {}", payload, e);
+        }
+    }
+
+    void onNotification(String payload) {
+        int separator = payload.indexOf(SEPARATOR);
+        if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        EntityChangeEvent event;
+        try {
+            event = EntityChangeEvent.fromPayload(payload.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed cache invalidation {}", payload);
+            return;
+        }
+        invalidator.evictReplicated(event);
+        publishReplicated(event);
+    }
+
+    private void publishReplicated(EntityChangeEvent event) {
+        try {
+            eventPublisher.publishEvent(new ReplicatedEntityChangeEvent(event));
+        } catch (RuntimeException e) {
+            // a failing listener must not end the listener thread
+            log.warn("Listener failed for replicated change {}", event, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = Thread.ofPlatform()
+                .name("cache-invalidation-listener")
+                .daemon(true)
+                .start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(listenConnection);
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnect = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(connectionDetails.getJdbcUrl(),
+                    connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (reconnect) {
+                    // notifications sent while we were disconnected are lost
+                    invalidator.clearAll();
+                    publishReplicated(EntityChangeEvent.assignment(null, null));
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            onNotification(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener lost its connection, retrying in {}", reconnectDelay, e);
+                reconnect = true;
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // shutting down
+        }
+    }
+}
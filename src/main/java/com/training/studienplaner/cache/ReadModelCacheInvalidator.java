@@ -0,0 +1,104 @@
+package com.training.studienplaner.cache;
+
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.config.CacheConfig;
+import com.training.studienplaner.course.Course;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ReadModelCacheInvalidator {
+
+    private static final String COURSE_ASSIGNMENTS = Course.class.getName() + ".assignments";
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // runs after commit, or right away when the write was not transactional
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        evict(event);
+    }
+
+    // course responses are cached per CourseVersion and go stale on their own
+    public void evict(EntityChangeEvent event) {
+        switch (event.type()) {
+            // course titles are embedded in assignment and user responses
+            case COURSE -> {
+                clear(CacheConfig.ASSIGNMENTS);
+                clear(CacheConfig.USERS);
+            }
+            case ASSIGNMENT -> evict(CacheConfig.ASSIGNMENTS, event.id());
+            case ENROLLMENT, USER -> evict(CacheConfig.USERS, event.id());
+            // no cached read model contains submissions
+            case SUBMISSION -> {
+            }
+        }
+    }
+
+    // a change made on another replica never went through this node's Hibernate session factory,
+    // so its second-level cache entries and cached query results are dropped as well
+    public void evictReplicated(EntityChangeEvent event) {
+        evict(event);
+        org.hibernate.Cache secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        switch (event.type()) {
+            case COURSE -> {
+                evictEntity(secondLevelCache, Course.class, event.id());
+                evictAssignmentsOf(secondLevelCache, event.id());
+                secondLevelCache.evictQueryRegions();
+            }
+            case ASSIGNMENT -> {
+                evictEntity(secondLevelCache, Assignment.class, event.id());
+                evictAssignmentsOf(secondLevelCache, event.parentId());
+                secondLevelCache.evictQueryRegions();
+            }
+            case SUBMISSION, ENROLLMENT, USER -> {
+            }
+        }
+    }
+
+    public void clearAll() {
+        cacheManager.getCacheNames().forEach(this::clear);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private static void evictEntity(org.hibernate.Cache secondLevelCache, Class<?> entityClass, Long id) {
+        if (id == null) {
+            secondLevelCache.evictEntityData(entityClass);
+        } else {
+            secondLevelCache.evictEntityData(entityClass, id);
+        }
+    }
+
+    private static void evictAssignmentsOf(org.hibernate.Cache secondLevelCache, Long courseId) {
+        if (courseId == null) {
+            secondLevelCache.evictCollectionData(COURSE_ASSIGNMENTS);
+        } else {
+            secondLevelCache.evictCollectionData(COURSE_ASSIGNMENTS, courseId);
+        }
+    }
+
+    private void evict(String cacheName, Long key) {
+        if (key == null) {
+            clear(cacheName);
+            return;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.training.studienplaner.cache;
+
+// a change committed on another replica, relayed by PostgresCacheInvalidationBus;
+// changes of this replica arrive as plain EntityChangeEvents
+public record ReplicatedEntityChangeEvent(EntityChangeEvent change) {
+}
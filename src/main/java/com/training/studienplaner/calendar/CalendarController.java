@@ -0,0 +1,70 @@
+package com.training.studienplaner.calendar;
+
+import com.training.studienplaner.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private final CalendarFeedService calendarFeedService;
+    private final CalendarFeedTokenService calendarFeedTokenService;
+
+    // calendar apps poll with If-None-Match; an unchanged feed costs one version query and a 304
+    @GetMapping("/users/{id}/calendar.ics")
+    @PreAuthorize("#userDetails != null and (#id == #userDetails.user.getUserId() or hasAnyRole('TEACHER', 'ADMIN'))")
+    public ResponseEntity<String> getUserCalendar(@PathVariable Long id,
+                                                  @AuthenticationPrincipal CustomUserDetails userDetails,
+                                                  WebRequest request) {
+        return feed(id, request);
+    }
+
+    // subscription URL for calendar apps, which cannot send an Authorization header;
+    // the token in the path is the credential
+    @GetMapping("/calendar/{token}.ics")
+    public ResponseEntity<String> getCalendarByFeedToken(@PathVariable String token, WebRequest request) {
+        return feed(calendarFeedTokenService.findUserId(token), request);
+    }
+
+    @PostMapping("/users/{id}/calendar-token")
+    @PreAuthorize("#userDetails != null and (#id == #userDetails.user.getUserId() or hasRole('ADMIN'))")
+    public CalendarFeedTokenDto rotateFeedToken(@PathVariable Long id,
+                                                @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return calendarFeedTokenService.rotate(id);
+    }
+
+    @DeleteMapping("/users/{id}/calendar-token")
+    @PreAuthorize("#userDetails != null and (#id == #userDetails.user.getUserId() or hasRole('ADMIN'))")
+    public ResponseEntity<Void> revokeFeedToken(@PathVariable Long id,
+                                                @AuthenticationPrincipal CustomUserDetails userDetails) {
+        calendarFeedTokenService.revoke(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<String> feed(Long userId, WebRequest request) {
+        CalendarFeedVersion version = calendarFeedService.getFeedVersion(userId);
+        String etag = version.tag();
+        // the feed is personal, shared caches must not keep it
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(ICalendarFormat.CONTENT_TYPE))
+                .body(calendarFeedService.renderFeed(version));
+    }
+}
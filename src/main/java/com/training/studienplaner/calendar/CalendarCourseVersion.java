@@ -0,0 +1,18 @@
+package com.training.studienplaner.calendar;
+
+// Everything a course contributes to the calendar feed: the course version covers the title, the
+// assignment count and highest id cover added or removed assignments and the sum of the
+// assignment versions covers edited ones.
+// Keys the cached course snapshots, which therefore need no eviction.
+public record CalendarCourseVersion(
+        Long courseId,
+        Long course,
+        Long assignments,
+        Long lastAssignmentId,
+        Long assignmentVersions
+) {
+
+    String tag() {
+        return "c" + courseId + "." + course + "." + assignments + "." + lastAssignmentId + "." + assignmentVersions;
+    }
+}
@@ -0,0 +1,16 @@
+package com.training.studienplaner.calendar;
+
+import com.training.studienplaner.assignment.Assignment;
+
+import java.time.LocalDateTime;
+
+public record CalendarEntry(
+        Long assignmentId,
+        Long version,
+        String title,
+        String description,
+        Assignment.AssignmentType type,
+        LocalDateTime deadline,
+        String courseTitle
+) {
+}
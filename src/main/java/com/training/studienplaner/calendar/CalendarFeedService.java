@@ -0,0 +1,34 @@
+package com.training.studienplaner.calendar;
+
+import com.training.studienplaner.user.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+
+    private final CalendarRepository calendarRepository;
+    private final UserRepository userRepository;
+    private final CourseCalendarService courseCalendarService;
+
+    public CalendarFeedVersion getFeedVersion(Long userId) {
+        List<CalendarCourseVersion> courses = calendarRepository.findCourseVersionsByUserId(userId);
+        if (courses.isEmpty() && !userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found");
+        }
+        return new CalendarFeedVersion(userId, courses);
+    }
+
+    // per user only the version query and the concatenation of the cached course snapshots
+    public String renderFeed(CalendarFeedVersion version) {
+        StringBuilder feed = new StringBuilder(ICalendarFormat.header());
+        for (CalendarCourseVersion course : version.courses()) {
+            courseCalendarService.getCourseCalendar(course).events().forEach(feed::append);
+        }
+        return feed.append(ICalendarFormat.footer()).toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.training.studienplaner.calendar;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// Secret that authenticates the calendar feed URL, since calendar apps cannot send a bearer
+// token. One per user; rotating replaces it, so the previous URL stops working.
+// Only the SHA-256 hash is stored.
+@Getter
+@Setter
+@AllArgsConstructor
+@Builder
+@ToString
+@NoArgsConstructor
+@Entity
+@Table(name = "calendar_feed_token")
+public class CalendarFeedToken {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "token_hash", length = 64, nullable = false, unique = true)
+    private String tokenHash;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
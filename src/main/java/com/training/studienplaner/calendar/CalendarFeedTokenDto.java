@@ -0,0 +1,8 @@
+package com.training.studienplaner.calendar;
+
+// the token is only returned once, on rotation
+public record CalendarFeedTokenDto(
+        String token,
+        String feedPath
+) {
+}
@@ -0,0 +1,12 @@
+package com.training.studienplaner.calendar;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CalendarFeedTokenRepository extends JpaRepository<CalendarFeedToken, Long> {
+
+    Optional<CalendarFeedToken> findByTokenHash(String tokenHash);
+}
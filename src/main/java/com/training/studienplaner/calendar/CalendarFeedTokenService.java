@@ -0,0 +1,79 @@
+package com.training.studienplaner.calendar;
+
+import com.training.studienplaner.user.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.HexFormat;
+
+@Service
+public class CalendarFeedTokenService {
+
+    private static final int FEED_TOKEN_BYTES = 32;
+
+    private final CalendarFeedTokenRepository feedTokenRepository;
+    private final UserRepository userRepository;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    public CalendarFeedTokenService(CalendarFeedTokenRepository feedTokenRepository, UserRepository userRepository) {
+        this(feedTokenRepository, userRepository, Clock.systemUTC());
+    }
+
+    CalendarFeedTokenService(CalendarFeedTokenRepository feedTokenRepository, UserRepository userRepository, Clock clock) {
+        this.feedTokenRepository = feedTokenRepository;
+        this.userRepository = userRepository;
+        this.clock = clock;
+    }
+
+    // creates the token on first use, afterwards replaces it
+    @Transactional
+    public CalendarFeedTokenDto rotate(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found");
+        }
+        String token = newFeedToken();
+        feedTokenRepository.save(CalendarFeedToken.builder()
+                .userId(userId)
+                .tokenHash(hash(token))
+                .createdAt(clock.instant())
+                .build());
+        return new CalendarFeedTokenDto(token, "/calendar/" + token + ".ics");
+    }
+
+    @Transactional
+    public void revoke(Long userId) {
+        feedTokenRepository.deleteById(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public Long findUserId(String token) {
+        return feedTokenRepository.findByTokenHash(hash(token))
+                .map(CalendarFeedToken::getUserId)
+                .orElseThrow(() -> new EntityNotFoundException("Calendar feed not found"));
+    }
+
+    private String newFeedToken() {
+        byte[] bytes = new byte[FEED_TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
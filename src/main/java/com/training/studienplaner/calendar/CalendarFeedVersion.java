@@ -0,0 +1,29 @@
+package com.training.studienplaner.calendar;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// The enrolled courses of a user with their versions, ordered by course id. Enrolling or
+// leaving a course changes the list, so the digest changes with every change of the feed.
+public record CalendarFeedVersion(
+        Long userId,
+        List<CalendarCourseVersion> courses
+) {
+
+    // the feed is assembled from snapshots whose DTSTAMP is their build time, so the tag is weak
+    public String tag() {
+        String versions = courses.stream()
+                .map(CalendarCourseVersion::tag)
+                .collect(Collectors.joining("-", "u" + userId + "-", ""));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(versions.getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.training.studienplaner.calendar;
+
+import com.training.studienplaner.course.Course;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+@org.springframework.stereotype.Repository
+public interface CalendarRepository extends Repository<Course, Long> {
+
+    @Query("""
+            select new com.training.studienplaner.calendar.CalendarCourseVersion(
+                c.courseId, c.version,
+                (select count(a) from Assignment a where a.course = c),
+                (select coalesce(max(a.assignmentId), 0) from Assignment a where a.course = c),
+                (select coalesce(sum(a.version), 0) from Assignment a where a.course = c))
+            from User u join u.coursesList c
+            where u.userId = :userId
+            order by c.courseId""")
+    List<CalendarCourseVersion> findCourseVersionsByUserId(@Param("userId") Long userId);
+
+    // served by idx_assignment_course_deadline
+    @Query("""
+            select new com.training.studienplaner.calendar.CalendarEntry(
+                a.assignmentId, a.version, a.title, a.description, a.type, a.deadline, c.title)
+            from Assignment a join a.course c
+            where c.courseId = :courseId and a.deadline is not null
+            order by a.deadline, a.assignmentId""")
+    List<CalendarEntry> findEntriesByCourseId(@Param("courseId") Long courseId);
+}
@@ -0,0 +1,10 @@
+package com.training.studienplaner.calendar;
+
+import java.util.List;
+
+// pre-rendered VEVENT blocks of one course version, shared by the feeds of all its students
+public record CourseCalendar(
+        Long courseId,
+        List<String> events
+) {
+}
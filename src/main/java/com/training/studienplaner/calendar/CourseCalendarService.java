@@ -0,0 +1,31 @@
+package com.training.studienplaner.calendar;
+
+import com.training.studienplaner.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CourseCalendarService {
+
+    private final CalendarRepository calendarRepository;
+
+    // a snapshot built after a concurrent change holds newer data than its key, which is
+    // harmless: the next feed request sees the new version and builds the next snapshot
+    @Cacheable(cacheNames = CacheConfig.CALENDAR, key = "#version")
+    @Transactional(readOnly = true)
+    public CourseCalendar getCourseCalendar(CalendarCourseVersion version) {
+        Instant stamp = Instant.now();
+        ZoneId zone = ZoneId.systemDefault();
+        List<String> events = calendarRepository.findEntriesByCourseId(version.courseId()).stream()
+                .map(entry -> ICalendarFormat.event(entry, stamp, zone))
+                .toList();
+        return new CourseCalendar(version.courseId(), events);
+    }
+}
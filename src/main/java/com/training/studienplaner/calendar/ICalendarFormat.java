@@ -0,0 +1,83 @@
+package com.training.studienplaner.calendar;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+// Minimal RFC 5545 writer: CRLF line endings, lines folded at 75 octets, escaped TEXT values.
+// Deadlines are stored as local date-times of the server zone and written in UTC.
+final class ICalendarFormat {
+
+    static final String CONTENT_TYPE = "text/calendar;charset=UTF-8";
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter UTC_DATE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private ICalendarFormat() {
+    }
+
+    static String header() {
+        return line("BEGIN:VCALENDAR")
+                + line("VERSION:2.0")
+                + line("PRODID:-//Studienplaner//Deadlines//DE")
+                + line("CALSCALE:GREGORIAN")
+                + line("METHOD:PUBLISH")
+                + line("X-WR-CALNAME:Studienplaner");
+    }
+
+    static String footer() {
+        return line("END:VCALENDAR");
+    }
+
+    static String event(CalendarEntry entry, Instant stamp, ZoneId zone) {
+        String deadline = UTC_DATE_TIME.format(entry.deadline().atZone(zone));
+        StringBuilder event = new StringBuilder()
+                .append(line("BEGIN:VEVENT"))
+                .append(line("UID:assignment-" + entry.assignmentId() + "@studienplaner"))
+                .append(line("DTSTAMP:" + UTC_DATE_TIME.format(stamp)))
+                // clients replace an event they already have when its sequence grows
+                .append(line("SEQUENCE:" + entry.version()))
+                .append(line("DTSTART:" + deadline))
+                .append(line("DTEND:" + deadline))
+                .append(line("SUMMARY:" + escape(entry.courseTitle() + ": " + entry.title())));
+        if (entry.description() != null && !entry.description().isBlank()) {
+            event.append(line("DESCRIPTION:" + escape(entry.description())));
+        }
+        if (entry.type() != null) {
+            event.append(line("CATEGORIES:" + entry.type().name()));
+        }
+        return event.append(line("END:VEVENT")).toString();
+    }
+
+    static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "\\n");
+    }
+
+    // continuation lines start with a space, which counts towards their 75 octets
+    static String line(String content) {
+        StringBuilder folded = new StringBuilder(content.length() + 8);
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int charCount = Character.charCount(codePoint);
+            int length = content.substring(i, i + charCount).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + length > MAX_LINE_OCTETS) {
+                folded.append(CRLF).append(' ');
+                octets = 1;
+            }
+            folded.appendCodePoint(codePoint);
+            octets += length;
+            i += charCount;
+        }
+        return folded.append(CRLF).toString();
+    }
+}
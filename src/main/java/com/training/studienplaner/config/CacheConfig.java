@@ -0,0 +1,38 @@
+package com.training.studienplaner.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String COURSES = "courses";
+    public static final String ASSIGNMENTS = "assignments";
+    public static final String USERS = "users";
+    // keyed by version, entries are never evicted and simply age out
+    public static final String CALENDAR = "calendar";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${read-model-cache.maximum-size:10000}") long maximumSize,
+                                     @Value("${read-model-cache.ttl:PT10M}") Duration timeToLive) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats());
+        // fixed names, so the caches exist at startup and get bound to the cache metrics
+        caffeineCacheManager.setCacheNames(List.of(COURSES, ASSIGNMENTS, USERS, CALENDAR));
+        caffeineCacheManager.setAllowNullValues(false);
+        // evictions are driven by EntityChangeEvents after commit, see ReadModelCacheInvalidator
+        return caffeineCacheManager;
+    }
+}
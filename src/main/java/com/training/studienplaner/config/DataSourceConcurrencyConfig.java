@@ -0,0 +1,33 @@
+package com.training.studienplaner.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "db.concurrency-limit.enabled", havingValue = "true")
+public class DataSourceConcurrencyConfig {
+
+    // static so the post-processor is registered before the DataSource is created
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimiter(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                int permits = environment.getProperty("db.concurrency-limit.permits", Integer.class, 0);
+                Duration acquireTimeout = environment.getProperty("db.concurrency-limit.acquire-timeout",
+                        Duration.class, Duration.ofMillis(hikari.getConnectionTimeout()));
+                return new ConcurrencyLimitingDataSource(hikari,
+                        permits > 0 ? permits : hikari.getMaximumPoolSize(), acquireTimeout);
+            }
+        };
+    }
+}
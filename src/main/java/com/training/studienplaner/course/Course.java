@@ -5,8 +5,11 @@ import com.training.studienplaner.assignment.Assignment;
 import com.training.studienplaner.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @Setter
@@ -15,12 +18,22 @@ import java.util.List;
 @ToString
 @NoArgsConstructor
 @Entity
-@Table(name = "course")
+// students are left to batch fetching so the course row is not multiplied by assignments x students
+@NamedEntityGraph(
+        name = Course.WITH_TUTOR_AND_ASSIGNMENTS,
+        attributeNodes = {@NamedAttributeNode("tutor"), @NamedAttributeNode("assignments")}
+)
+@Table(name = "course", indexes = @Index(name = "idx_course_tutor", columnList = "tutor_user_id"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course")
 public class Course {
+    public static final String WITH_TUTOR_AND_ASSIGNMENTS = "Course.withTutorAndAssignments";
+
     @Id
     @GeneratedValue(
-            strategy = GenerationType.IDENTITY
+            strategy = GenerationType.SEQUENCE,
+            generator = "course_seq"
     )
+    @SequenceGenerator(name = "course_seq", sequenceName = "course_seq", allocationSize = 50)
     private Long courseId;
 
     @Column(
@@ -35,7 +48,7 @@ public class Course {
     )
     private String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tutor_user_id")
     private User tutor;
 
@@ -43,8 +56,13 @@ public class Course {
     private short ects;
 
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course_assignments")
     private List<Assignment> assignments;
 
     @ManyToMany(mappedBy = "coursesList")
-    private List<User> students;
+    @OrderBy("userId")
+    private Set<User> students;
+
+    @Version
+    private long version;
 }
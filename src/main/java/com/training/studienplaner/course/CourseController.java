@@ -1,14 +1,22 @@
 package com.training.studienplaner.course;
 
 import com.training.studienplaner.assignment.AssignmentResponseDto;
+import com.training.studienplaner.security.RequireRoles;
 import com.training.studienplaner.user.UserResponseDto;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
+import static com.training.studienplaner.user.User.Role.STUDENT;
+import static com.training.studienplaner.user.User.Role.TEACHER;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/courses")
@@ -17,44 +25,74 @@ public class CourseController {
     private final CourseService courseService;
 
     @GetMapping
-    @PreAuthorize("@authz.canAccessAny(principal, {'TEACHER', 'STUDENT'})")
+    @RequireRoles({TEACHER, STUDENT})
+    public ResponseEntity<CourseSummaryPageDto> getCourseSummaries(
+            @PageableDefault(size = 20, sort = "title") Pageable pageable) {
+        CourseSummaryPageDto response = courseService.getCourseSummaries(pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = "view=full")
+    @RequireRoles({TEACHER, STUDENT})
     public ResponseEntity<List<CourseResponseDto>> getAllCourses() {
         List<CourseResponseDto> response = courseService.getAllCourses();
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("@authz.canAccessAny(principal, {'TEACHER', 'STUDENT'})")
-    public ResponseEntity<CourseResponseDto> getCourseById(@PathVariable Long id) {
-        CourseResponseDto response = courseService.getCourseById(id);
-        return ResponseEntity.ok(response);
+    @RequireRoles({TEACHER, STUDENT})
+    public ResponseEntity<CourseResponseDto> getCourseById(@PathVariable Long id, WebRequest request) {
+        CourseVersion version = courseService.getCourseVersion(id);
+        String etag = version.courseTag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        CourseResponseDto response = courseService.getCourseByVersion(version);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @PostMapping
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<CourseResponseDto> createCourse(@RequestBody CourseRequestDto course) {
         CourseResponseDto response = courseService.createCourse(course);
         return ResponseEntity.status(201).body(response);
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("@authz.canAccessAny(principal)")
+    @RequireRoles
     public ResponseEntity<Void> deleteCourse(@PathVariable Long id) {
         courseService.deleteCourseById(id);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/{id}/assignments")
-    @PreAuthorize("@authz.canAccessAny(principal, {'TEACHER', 'STUDENT'})")
-    public ResponseEntity<List<AssignmentResponseDto>> getAssignmentsByCourseId(@PathVariable Long id) {
+    @RequireRoles({TEACHER, STUDENT})
+    public ResponseEntity<List<AssignmentResponseDto>> getAssignmentsByCourseId(@PathVariable Long id,
+                                                                                WebRequest request) {
+        String etag = courseService.getCourseVersion(id).assignmentsTag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<AssignmentResponseDto> response = courseService.getAssignmentsByCourseId(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @GetMapping("/{id}/students")
-    @PreAuthorize("@authz.canAccessAny(principal, {'TEACHER', 'STUDENT'})")
-    public ResponseEntity<List<UserResponseDto>> getStudentsByCourseId(@PathVariable Long id) {
+    @RequireRoles(TEACHER)
+    public ResponseEntity<List<UserResponseDto>> getStudentsByCourseId(@PathVariable Long id, WebRequest request) {
+        String etag = courseService.getCourseVersion(id).studentsTag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<UserResponseDto> response = courseService.getStudentsByCourseId(id);
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    @PostMapping("/{id}/students")
+    @RequireRoles(TEACHER)
+    public ResponseEntity<CourseEnrollmentResultDto> enrollStudents(@PathVariable Long id,
+                                                                    @Valid @RequestBody CourseEnrollmentRequestDto dto) {
+        CourseEnrollmentResultDto response = courseService.enrollStudents(id, dto);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,13 @@
+package com.training.studienplaner.course;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CourseEnrollmentRequestDto(
+        @NotEmpty(message = "Liste der Studierenden darf nicht leer sein")
+        @Size(max = 10000, message = "Es können maximal 10000 Studierende auf einmal eingeschrieben werden")
+        List<@NotNull Long> studentIds
+) {}
@@ -0,0 +1,7 @@
+package com.training.studienplaner.course;
+
+public record CourseEnrollmentResultDto(
+        int requested,
+        int enrolled
+) {
+}
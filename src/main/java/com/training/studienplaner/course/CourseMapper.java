@@ -5,17 +5,19 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface CourseMapper {
 
     @Mapping(target = "tutor", source = "tutorId", qualifiedByName = "mapTutor")
+    @Mapping(target = "version", ignore = true)
     Course toEntity(CourseRequestDto dto);
 
     CourseResponseDto toResponseDto(Course course);
 
-    List<CourseResponseDto> toResponseDto(List<Course> courses);
+    List<CourseResponseDto> toResponseDto(Collection<Course> courses);
 
     CourseShortDto toShortDto(Course course);
 
@@ -1,8 +1,81 @@
 package com.training.studienplaner.course;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
+
+    @Override
+    @EntityGraph(Course.WITH_TUTOR_AND_ASSIGNMENTS)
+    Optional<Course> findById(Long id);
+
+    @Override
+    @EntityGraph(Course.WITH_TUTOR_AND_ASSIGNMENTS)
+    List<Course> findAll();
+
+    @Query(value = """
+            select new com.training.studienplaner.course.CourseSummaryDto(
+                c.courseId, c.title, t.name, t.surname, c.ects, size(c.assignments), size(c.students))
+            from Course c left join c.tutor t""",
+            countQuery = "select count(c) from Course c")
+    Page<CourseSummaryDto> findSummaries(Pageable pageable);
+
+    @Query("""
+            select new com.training.studienplaner.course.CourseVersion(
+                c.courseId, c.version, t.version,
+                (select count(s) from User s join s.coursesList sc where sc = c),
+                (select coalesce(sum(s.version), 0) from User s join s.coursesList sc where sc = c),
+                (select count(a) from Assignment a where a.course = c),
+                (select coalesce(max(a.assignmentId), 0) from Assignment a where a.course = c),
+                (select coalesce(sum(a.version), 0) from Assignment a where a.course = c))
+            from Course c left join c.tutor t
+            where c.courseId = :courseId""")
+    Optional<CourseVersion> findVersionById(@Param("courseId") Long courseId);
+
+    // set-based enrollment without touching User.coursesList; unknown users and
+    // existing enrollments are skipped, so repeating a request changes nothing.
+    // The query spaces keep Hibernate from dropping every second-level cache region.
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_courses"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users")
+    })
+    @Query(nativeQuery = true, value = """
+            insert into user_courses (user_id, course_id)
+            select u.user_id, :courseId
+            from users u
+            where u.user_id in (:userIds)
+              and not exists (select 1 from user_courses uc
+                              where uc.user_id = u.user_id and uc.course_id = :courseId)
+            """)
+    int enrollUsers(@Param("courseId") Long courseId, @Param("userIds") Collection<Long> userIds);
+
+    // the bulk insert bypasses User.coursesList, so the versions of the users about to be
+    // enrolled are bumped here; must run before enrollUsers with the same arguments
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_courses"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users")
+    })
+    @Query(nativeQuery = true, value = """
+            update users set version = version + 1
+            where user_id in (:userIds)
+              and not exists (select 1 from user_courses uc
+                              where uc.user_id = users.user_id and uc.course_id = :courseId)
+            """)
+    int incrementVersionOfNewStudents(@Param("courseId") Long courseId, @Param("userIds") Collection<Long> userIds);
 }
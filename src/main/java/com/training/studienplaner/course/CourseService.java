@@ -2,22 +2,38 @@ package com.training.studienplaner.course;
 
 import com.training.studienplaner.assignment.AssignmentMapper;
 import com.training.studienplaner.assignment.AssignmentResponseDto;
+import com.training.studienplaner.cache.EntityChangeEvent;
+import com.training.studienplaner.config.CacheConfig;
 import com.training.studienplaner.user.UserMapper;
 import com.training.studienplaner.user.UserResponseDto;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class CourseService {
 
+    private static final Set<String> SUMMARY_SORT_PROPERTIES = Set.of("courseId", "title", "ects");
+    // keeps the IN list well below the bind parameter limits of the JDBC drivers
+    private static final int ENROLLMENT_CHUNK_SIZE = 1000;
+    private static final int MAX_ENROLLMENT_BATCH = 10000;
+
     private final CourseRepository courseRepository;
     private final CourseMapper courseMapper;
     private final AssignmentMapper assignmentMapper;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CourseResponseDto createCourse(CourseRequestDto courseDto) {
         Course course = courseMapper.toEntity(courseDto);
@@ -30,6 +46,29 @@ public class CourseService {
         return courseMapper.toResponseDto(courses);
     }
 
+    public CourseSummaryPageDto getCourseSummaries(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SUMMARY_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort courses by " + order.getProperty());
+            }
+        }
+        Page<CourseSummaryDto> page = courseRepository.findSummaries(pageable);
+        return new CourseSummaryPageDto(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+
+    public CourseVersion getCourseVersion(Long id) {
+        return courseRepository.findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Course not found"));
+    }
+
+    // keyed by version rather than id: a cached response can never be served with a newer
+    // ETag than it was built for, not even before a remote replica's invalidation arrives
+    @Cacheable(cacheNames = CacheConfig.COURSES, key = "#version")
+    public CourseResponseDto getCourseByVersion(CourseVersion version) {
+        return getCourseById(version.courseId());
+    }
+
     public CourseResponseDto getCourseById(Long id) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Course not found"));
@@ -40,6 +79,7 @@ public class CourseService {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Course not found"));
         courseRepository.delete(course);
+        eventPublisher.publishEvent(EntityChangeEvent.course(id));
     }
 
     public List<AssignmentResponseDto> getAssignmentsByCourseId(Long courseId) {
@@ -54,6 +94,28 @@ public class CourseService {
         return userMapper.toResponseDto(course.getStudents());
     }
 
+    @Transactional
+    public CourseEnrollmentResultDto enrollStudents(Long courseId, CourseEnrollmentRequestDto dto) {
+        if (dto.studentIds() == null || dto.studentIds().isEmpty() || dto.studentIds().size() > MAX_ENROLLMENT_BATCH) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_ENROLLMENT_BATCH + " student ids are required");
+        }
+        if (!courseRepository.existsById(courseId)) {
+            throw new EntityNotFoundException("Course not found");
+        }
+        List<Long> studentIds = dto.studentIds().stream().filter(Objects::nonNull).distinct().toList();
+        int enrolled = 0;
+        for (int from = 0; from < studentIds.size(); from += ENROLLMENT_CHUNK_SIZE) {
+            List<Long> chunk = studentIds.subList(from, Math.min(from + ENROLLMENT_CHUNK_SIZE, studentIds.size()));
+            courseRepository.incrementVersionOfNewStudents(courseId, chunk);
+            enrolled += courseRepository.enrollUsers(courseId, chunk);
+        }
+        if (enrolled > 0) {
+            // which of the ids were new enrollments is not known, so the event covers all users
+            eventPublisher.publishEvent(EntityChangeEvent.enrollment(null, courseId));
+        }
+        return new CourseEnrollmentResultDto(studentIds.size(), enrolled);
+    }
+
     public Course getCourseEntityById(Long id) {
         return courseRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Course not found"));
@@ -0,0 +1,12 @@
+package com.training.studienplaner.course;
+
+public record CourseSummaryDto(
+        Long courseId,
+        String title,
+        String tutorName,
+        String tutorSurname,
+        short ects,
+        long assignmentCount,
+        long studentCount
+) {
+}
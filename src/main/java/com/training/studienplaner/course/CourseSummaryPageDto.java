@@ -0,0 +1,12 @@
+package com.training.studienplaner.course;
+
+import java.util.List;
+
+public record CourseSummaryPageDto(
+        List<CourseSummaryDto> items,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages
+) {
+}
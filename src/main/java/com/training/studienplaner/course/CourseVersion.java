@@ -0,0 +1,37 @@
+package com.training.studienplaner.course;
+
+// Versions behind the course read endpoints, read with one aggregate query so a
+// conditional GET can be answered without loading the course. Writers never touch the course
+// row for this, so concurrent enrollments and new assignments do not conflict on it:
+// student versions change with their role and their own enrollments, which show up in the
+// roster as well, and the assignment count and highest id change when assignments are added
+// or removed (ids are never reused). Versions only grow, so together with the counts every
+// change yields a different tag.
+// The record also keys the cached course responses, which therefore need no eviction.
+public record CourseVersion(
+        Long courseId,
+        Long course,
+        Long tutor,
+        Long students,
+        Long studentVersions,
+        Long assignments,
+        Long lastAssignmentId,
+        Long assignmentVersions
+) {
+
+    public String courseTag() {
+        return "c" + course + "-t" + tutor + "-s" + students + "." + studentVersions + "-a" + assignmentsVersion();
+    }
+
+    public String assignmentsTag() {
+        return "c" + course + "-a" + assignmentsVersion();
+    }
+
+    public String studentsTag() {
+        return "c" + course + "-s" + students + "." + studentVersions;
+    }
+
+    private String assignmentsVersion() {
+        return assignments + "." + lastAssignmentId + "." + assignmentVersions;
+    }
+}
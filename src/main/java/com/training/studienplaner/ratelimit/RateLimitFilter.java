@@ -0,0 +1,95 @@
+package com.training.studienplaner.ratelimit;
+
+import com.training.studienplaner.security.CustomUserDetails;
+import com.training.studienplaner.user.User;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Runs after JwtAuthenticationFilter and limits authenticated users per route. Anonymous
+// requests pass; login has its own limiter. Routes are the method plus the path with numeric
+// segments replaced, so /users/5/courses and /users/6/courses share the route
+// "GET /users/{id}/courses" while every user still has a bucket of their own.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RequestRateLimiter rateLimiter;
+    private final boolean enabled;
+
+    public RateLimitFilter(RequestRateLimiter rateLimiter,
+                           @Value("${rate-limit.enabled:true}") boolean enabled) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        User user = userDetails.getUser();
+        long waitNanos = rateLimiter.tryAcquire(user.getUserId(), user.getRole(), route(request));
+        if (waitNanos > 0) {
+            // Retry-After has whole seconds
+            long retryAfter = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Too many requests");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    static String route(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        StringBuilder route = new StringBuilder(request.getMethod().length() + path.length() + 4)
+                .append(request.getMethod())
+                .append(' ');
+        int start = 0;
+        while (start < path.length()) {
+            int end = path.indexOf('/', start + 1);
+            if (end < 0) {
+                end = path.length();
+            }
+            // the segment includes its leading slash
+            if (end - start > 1 && isNumeric(path, start + 1, end)) {
+                route.append("/{id}");
+            } else {
+                route.append(path, start, end);
+            }
+            start = end;
+        }
+        return route.toString();
+    }
+
+    private static boolean isNumeric(String path, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isDigit(path.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,131 @@
+package com.training.studienplaner.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.training.studienplaner.user.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// One token bucket per user and route, with capacity and refill period depending on the role;
+// roles without a positive capacity are not limited. The buckets live in a ConcurrentHashMap,
+// whose lookups take no lock and whose inserts only lock one bin, and the buckets themselves are
+// CAS-based, so a burst on one hot route does not serialize requests.
+// A bucket that has refilled completely is equivalent to a new one, so the sweep simply drops
+// full buckets instead of tracking access times.
+@Slf4j
+@Component
+public class RequestRateLimiter implements SmartLifecycle {
+
+    // shared by all routes of a user once the map is full, so many distinct paths cannot
+    // push out the buckets of other users
+    static final String OVERFLOW_ROUTE = "*";
+
+    private final Map<User.Role, Limit> limits;
+    private final Duration sweepInterval;
+    private final long maximumKeys;
+    private final Ticker ticker;
+    private final ConcurrentHashMap<Key, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService sweeper;
+    private volatile boolean running;
+
+    @Autowired
+    public RequestRateLimiter(@Value("${rate-limit.student.capacity:30}") long studentCapacity,
+                              @Value("${rate-limit.student.refill-period:PT2S}") Duration studentRefill,
+                              @Value("${rate-limit.teacher.capacity:60}") long teacherCapacity,
+                              @Value("${rate-limit.teacher.refill-period:PT1S}") Duration teacherRefill,
+                              @Value("${rate-limit.admin.capacity:0}") long adminCapacity,
+                              @Value("${rate-limit.admin.refill-period:PT1S}") Duration adminRefill,
+                              @Value("${rate-limit.sweep-interval:PT1M}") Duration sweepInterval,
+                              @Value("${rate-limit.maximum-keys:100000}") long maximumKeys) {
+        this(Map.of(User.Role.STUDENT, new Limit(studentCapacity, studentRefill),
+                        User.Role.TEACHER, new Limit(teacherCapacity, teacherRefill),
+                        User.Role.ADMIN, new Limit(adminCapacity, adminRefill)),
+                sweepInterval, maximumKeys, Ticker.systemTicker());
+    }
+
+    RequestRateLimiter(Map<User.Role, Limit> limits, Duration sweepInterval, long maximumKeys, Ticker ticker) {
+        this.limits = new EnumMap<>(User.Role.class);
+        limits.forEach((role, limit) -> {
+            if (limit.capacity() > 0) {
+                this.limits.put(role, limit);
+            }
+        });
+        this.sweepInterval = sweepInterval;
+        this.maximumKeys = maximumKeys;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public void start() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("rate-limit-sweeper")
+                .daemon(true)
+                .factory());
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepInterval.toMillis(), sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 0 when the request may pass, otherwise the nanos until the next token is available
+    public long tryAcquire(Long userId, User.Role role, String route) {
+        Limit limit = role == null ? null : limits.get(role);
+        if (limit == null) {
+            return 0;
+        }
+        long now = ticker.read();
+        Key key = new Key(userId, route);
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maximumKeys) {
+                key = new Key(userId, OVERFLOW_ROUTE);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> limit.newBucket(now));
+        }
+        return bucket.tryConsume(now);
+    }
+
+    // a request that takes a token from a bucket dropped concurrently only loses that token
+    void sweep() {
+        long now = ticker.read();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        log.debug("Dropped {} idle rate limit buckets", before - buckets.size());
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    record Key(Long userId, String route) {
+    }
+
+    record Limit(long capacity, Duration refillPeriod) {
+
+        TokenBucket newBucket(long now) {
+            return new TokenBucket(capacity, refillPeriod.toNanos(), now);
+        }
+    }
+}
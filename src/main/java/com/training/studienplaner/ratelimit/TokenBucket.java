@@ -0,0 +1,49 @@
+package com.training.studienplaner.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket that holds up to capacity tokens and regains one every refillNanos, kept as a
+// single timestamp (generic cell rate algorithm): the time at which the bucket would be full
+// again. Taking a token moves it one refill period ahead, which is one CAS, so concurrent
+// requests on a hot bucket never block each other. Time is passed in, so callers decide on the
+// clock and tests need no sleeping.
+public class TokenBucket {
+
+    private final long refillNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long capacity, long refillNanos, long now) {
+        if (capacity <= 0 || refillNanos <= 0) {
+            throw new IllegalArgumentException("capacity and refill period must be positive");
+        }
+        this.refillNanos = refillNanos;
+        this.burstNanos = Math.multiplyExact(capacity, refillNanos);
+        this.fullAt = new AtomicLong(now);
+    }
+
+    // 0 when a token was taken, otherwise the nanos until the next token is available
+    public long tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + refillNanos;
+            long wait = next - burstNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // gives back a token taken by tryConsume; a full bucket stays full
+    public void refund() {
+        fullAt.addAndGet(-refillNanos);
+    }
+
+    // a full bucket behaves like a new one and can be dropped
+    public boolean isFull(long now) {
+        return fullAt.get() <= now;
+    }
+}
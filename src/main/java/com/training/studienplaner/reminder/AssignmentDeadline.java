@@ -0,0 +1,9 @@
+package com.training.studienplaner.reminder;
+
+import java.time.LocalDateTime;
+
+public record AssignmentDeadline(
+        Long assignmentId,
+        LocalDateTime deadline
+) {
+}
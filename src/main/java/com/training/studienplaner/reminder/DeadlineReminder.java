@@ -0,0 +1,14 @@
+package com.training.studienplaner.reminder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// one batch of recipients of one assignment; large assignments are sent as several batches
+public record DeadlineReminder(
+        Long assignmentId,
+        String assignmentTitle,
+        String courseTitle,
+        LocalDateTime deadline,
+        List<ReminderRecipient> recipients
+) {
+}
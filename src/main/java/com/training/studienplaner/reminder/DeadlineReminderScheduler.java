@@ -0,0 +1,153 @@
+package com.training.studienplaner.reminder;
+
+import com.training.studienplaner.cache.EntityChangeEvent;
+import com.training.studienplaner.cache.ReplicatedEntityChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Keeps the reminder time (deadline - lead time) of every upcoming deadline in a timing wheel,
+// so a tick costs one bucket instead of a query over all assignments. The wheel is filled from
+// one range query at startup and follows assignment changes through their EntityChangeEvents,
+// including those of other replicas relayed by PostgresCacheInvalidationBus.
+// Sent reminders are recorded per deadline, so a restart neither repeats them nor drops those
+// that came due during the downtime. With several replicas only one of them should run the
+// scheduler.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reminders.enabled", havingValue = "true")
+public class DeadlineReminderScheduler implements SmartLifecycle {
+
+    private final ReminderRepository reminderRepository;
+    private final DeadlineReminderService reminderService;
+    private final Duration leadTime;
+    private final Duration tick;
+    private final int wheelSize;
+    private final Clock clock;
+
+    private HashedTimingWheel<Long, Long> wheel;
+    private ScheduledExecutorService ticker;
+    private volatile boolean running;
+
+    @Autowired
+    public DeadlineReminderScheduler(ReminderRepository reminderRepository,
+                                     DeadlineReminderService reminderService,
+                                     @Value("${reminders.lead-time:PT24H}") Duration leadTime,
+                                     @Value("${reminders.tick:PT1M}") Duration tick,
+                                     @Value("${reminders.wheel-size:512}") int wheelSize) {
+        this(reminderRepository, reminderService, leadTime, tick, wheelSize, Clock.systemDefaultZone());
+    }
+
+    DeadlineReminderScheduler(ReminderRepository reminderRepository,
+                              DeadlineReminderService reminderService,
+                              Duration leadTime, Duration tick, int wheelSize, Clock clock) {
+        this.reminderRepository = reminderRepository;
+        this.reminderService = reminderService;
+        this.leadTime = leadTime;
+        this.tick = tick;
+        this.wheelSize = wheelSize;
+        this.clock = clock;
+    }
+
+    @Override
+    public void start() {
+        load();
+        ticker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("deadline-reminders")
+                .daemon(true)
+                .factory());
+        ticker.scheduleWithFixedDelay(this::tick, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // reminders that came due while the scheduler was down, or whose deadline is within the
+    // lead time, are overdue in the wheel and fire with the first tick
+    synchronized void load() {
+        wheel = new HashedTimingWheel<>(tick, wheelSize, clock.instant());
+        for (AssignmentDeadline deadline : reminderRepository.findPendingDeadlinesAfter(LocalDateTime.now(clock))) {
+            wheel.schedule(deadline.assignmentId(), reminderTime(deadline.deadline()), deadline.assignmentId());
+        }
+        log.info("Scheduled {} deadline reminders", wheel.size());
+    }
+
+    // runs after the commit of AssignmentService.createAssignment and deleteAssignmentById
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        if (event.type() != EntityChangeEvent.Type.ASSIGNMENT) {
+            return;
+        }
+        if (event.id() == null) {
+            load();
+            return;
+        }
+        LocalDateTime deadline = reminderRepository.findTarget(event.id())
+                .map(ReminderTarget::deadline)
+                .orElse(null);
+        synchronized (this) {
+            // a reminder time inside the lead time fires with the next tick
+            if (deadline != null && deadline.isAfter(LocalDateTime.now(clock))) {
+                wheel.schedule(event.id(), reminderTime(deadline), event.id());
+            } else {
+                wheel.cancel(event.id());
+            }
+        }
+    }
+
+    // already committed on the other replica; an assignment event without id (e.g. after
+    // notifications were lost) reloads the whole wheel
+    @EventListener
+    public void onReplicatedChange(ReplicatedEntityChangeEvent event) {
+        onEntityChange(event.change());
+    }
+
+    void tick() {
+        List<Long> due;
+        synchronized (this) {
+            due = wheel.advance(clock.instant());
+        }
+        for (Long assignmentId : due) {
+            try {
+                int sent = reminderService.sendReminders(assignmentId);
+                log.debug("Sent {} deadline reminders for assignment {}", sent, assignmentId);
+            } catch (RuntimeException e) {
+                // an exception would cancel the periodic task
+                log.warn("Could not send deadline reminders for assignment {}", assignmentId, e);
+            }
+        }
+    }
+
+    synchronized int scheduled() {
+        return wheel.size();
+    }
+
+    private Instant reminderTime(LocalDateTime deadline) {
+        return deadline.atZone(clock.getZone()).toInstant().minus(leadTime);
+    }
+}
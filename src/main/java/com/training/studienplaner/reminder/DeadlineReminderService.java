@@ -0,0 +1,76 @@
+package com.training.studienplaner.reminder;
+
+import com.training.studienplaner.submission.Submission;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.util.List;
+
+@Service
+public class DeadlineReminderService {
+
+    private final ReminderRepository reminderRepository;
+    private final SentDeadlineReminderRepository sentReminderRepository;
+    private final ReminderSender reminderSender;
+    private final int batchSize;
+    private final Clock clock;
+
+    @Autowired
+    public DeadlineReminderService(ReminderRepository reminderRepository,
+                                   SentDeadlineReminderRepository sentReminderRepository,
+                                   ReminderSender reminderSender,
+                                   @Value("${reminders.batch-size:500}") int batchSize) {
+        this(reminderRepository, sentReminderRepository, reminderSender, batchSize, Clock.systemUTC());
+    }
+
+    DeadlineReminderService(ReminderRepository reminderRepository,
+                            SentDeadlineReminderRepository sentReminderRepository,
+                            ReminderSender reminderSender,
+                            int batchSize,
+                            Clock clock) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("reminders.batch-size must be positive");
+        }
+        this.reminderRepository = reminderRepository;
+        this.sentReminderRepository = sentReminderRepository;
+        this.reminderSender = reminderSender;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    // the status is checked when the reminder goes out, not when it was scheduled;
+    // a reminder already sent for the current deadline is not sent again
+    @Transactional
+    public int sendReminders(Long assignmentId) {
+        ReminderTarget target = reminderRepository.findTarget(assignmentId).orElse(null);
+        if (target == null || target.deadline() == null
+                || sentReminderRepository.existsByAssignmentIdAndDeadline(assignmentId, target.deadline())) {
+            return 0;
+        }
+        int sent = 0;
+        long afterSubmissionId = 0;
+        while (true) {
+            List<ReminderRecipient> recipients = reminderRepository.findRecipients(
+                    assignmentId, Submission.Status.NOT_SUBMITTED, afterSubmissionId, Limit.of(batchSize));
+            if (!recipients.isEmpty()) {
+                reminderSender.send(new DeadlineReminder(target.assignmentId(), target.assignmentTitle(),
+                        target.courseTitle(), target.deadline(), recipients));
+                sent += recipients.size();
+            }
+            if (recipients.size() < batchSize) {
+                break;
+            }
+            afterSubmissionId = recipients.get(recipients.size() - 1).submissionId();
+        }
+        sentReminderRepository.save(SentDeadlineReminder.builder()
+                .assignmentId(assignmentId)
+                .deadline(target.deadline())
+                .sentAt(clock.instant())
+                .build());
+        return sent;
+    }
+}
@@ -0,0 +1,106 @@
+package com.training.studienplaner.reminder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// Hashed timing wheel after Varghese & Lauck: a timer due in n ticks goes into bucket
+// (current + n) mod size and waits n / size full rounds, so scheduling, cancelling and each
+// tick only touch one bucket, however many timers are pending. Timers fire at the first tick
+// at or after their due time, i.e. up to one tick late. One timer per key; scheduling a key
+// again replaces its timer. Not thread-safe, callers synchronize.
+class HashedTimingWheel<K, V> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Instant start;
+    private final List<List<Timer<K, V>>> buckets;
+    private final Map<K, Timer<K, V>> timers = new HashMap<>();
+    // next tick to process
+    private long currentTick;
+
+    HashedTimingWheel(Duration tick, int wheelSize, Instant start) {
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("tick must be at least one millisecond");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.tickMillis = tick.toMillis();
+        this.mask = wheelSize - 1;
+        this.start = start;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    void schedule(K key, Instant due, V value) {
+        cancel(key);
+        // overdue timers fire with the next tick
+        long dueTick = Math.max(ceilTick(due), currentTick);
+        Timer<K, V> timer = new Timer<>(key, value, (dueTick - currentTick) / buckets.size());
+        buckets.get((int) (dueTick & mask)).add(timer);
+        timers.put(key, timer);
+    }
+
+    // cancelled timers are only marked here and dropped when their bucket comes round
+    boolean cancel(K key) {
+        Timer<K, V> timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        timer.cancelled = true;
+        return true;
+    }
+
+    List<V> advance(Instant now) {
+        long lastTick = floorTick(now);
+        List<V> expired = new ArrayList<>();
+        for (; currentTick <= lastTick; currentTick++) {
+            Iterator<Timer<K, V>> bucket = buckets.get((int) (currentTick & mask)).iterator();
+            while (bucket.hasNext()) {
+                Timer<K, V> timer = bucket.next();
+                if (timer.cancelled) {
+                    bucket.remove();
+                } else if (timer.remainingRounds == 0) {
+                    bucket.remove();
+                    timers.remove(timer.key);
+                    expired.add(timer.value);
+                } else {
+                    timer.remainingRounds--;
+                }
+            }
+        }
+        return expired;
+    }
+
+    int size() {
+        return timers.size();
+    }
+
+    private long floorTick(Instant instant) {
+        return Math.floorDiv(Duration.between(start, instant).toMillis(), tickMillis);
+    }
+
+    private long ceilTick(Instant instant) {
+        return -Math.floorDiv(-Duration.between(start, instant).toMillis(), tickMillis);
+    }
+
+    private static final class Timer<K, V> {
+        private final K key;
+        private final V value;
+        private long remainingRounds;
+        private boolean cancelled;
+
+        private Timer(K key, V value, long remainingRounds) {
+            this.key = key;
+            this.value = value;
+            this.remainingRounds = remainingRounds;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.training.studienplaner.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoggingReminderSender implements ReminderSender {
+
+    @Override
+    public void send(DeadlineReminder reminder) {
+        log.info("Deadline reminder for assignment {} '{}' due {} to {} students",
+                reminder.assignmentId(), reminder.assignmentTitle(), reminder.deadline(), reminder.recipients().size());
+    }
+}
@@ -0,0 +1,15 @@
+package com.training.studienplaner.reminder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ReminderConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(ReminderSender.class)
+    public ReminderSender loggingReminderSender() {
+        return new LoggingReminderSender();
+    }
+}
@@ -0,0 +1,9 @@
+package com.training.studienplaner.reminder;
+
+public record ReminderRecipient(
+        Long submissionId,
+        Long userId,
+        String email,
+        String name
+) {
+}
@@ -0,0 +1,45 @@
+package com.training.studienplaner.reminder;
+
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.submission.Submission;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@org.springframework.stereotype.Repository
+public interface ReminderRepository extends Repository<Assignment, Long> {
+
+    // range scan on idx_assignment_deadline; reminders already sent for the current deadline are skipped
+    @Query("""
+            select new com.training.studienplaner.reminder.AssignmentDeadline(a.assignmentId, a.deadline)
+            from Assignment a
+            where a.deadline > :from
+              and not exists (select 1 from SentDeadlineReminder r
+                              where r.assignmentId = a.assignmentId and r.deadline = a.deadline)
+            order by a.deadline""")
+    List<AssignmentDeadline> findPendingDeadlinesAfter(@Param("from") LocalDateTime from);
+
+    @Query("""
+            select new com.training.studienplaner.reminder.ReminderTarget(a.assignmentId, a.title, c.title, a.deadline)
+            from Assignment a left join a.course c
+            where a.assignmentId = :assignmentId""")
+    Optional<ReminderTarget> findTarget(@Param("assignmentId") Long assignmentId);
+
+    // keyset over idx_submission_assignment_id (assignment_id, submission_id)
+    @Query("""
+            select new com.training.studienplaner.reminder.ReminderRecipient(s.submissionId, u.userId, u.email, u.name)
+            from Submission s join s.student u
+            where s.assignment.assignmentId = :assignmentId
+              and s.status = :status
+              and s.submissionId > :afterSubmissionId
+            order by s.submissionId""")
+    List<ReminderRecipient> findRecipients(@Param("assignmentId") Long assignmentId,
+                                           @Param("status") Submission.Status status,
+                                           @Param("afterSubmissionId") Long afterSubmissionId,
+                                           Limit limit);
+}
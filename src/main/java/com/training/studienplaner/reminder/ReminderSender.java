@@ -0,0 +1,7 @@
+package com.training.studienplaner.reminder;
+
+// delivery channel for deadline reminders; a bean of this type replaces LoggingReminderSender
+public interface ReminderSender {
+
+    void send(DeadlineReminder reminder);
+}
@@ -0,0 +1,11 @@
+package com.training.studienplaner.reminder;
+
+import java.time.LocalDateTime;
+
+public record ReminderTarget(
+        Long assignmentId,
+        String assignmentTitle,
+        String courseTitle,
+        LocalDateTime deadline
+) {
+}
@@ -0,0 +1,31 @@
+package com.training.studienplaner.reminder;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+// Marks the reminder of an assignment as sent for the deadline it was sent for, so a restarted
+// scheduler neither repeats it nor skips one that is still due. A moved deadline no longer
+// matches and is reminded again.
+@Getter
+@Setter
+@AllArgsConstructor
+@Builder
+@ToString
+@NoArgsConstructor
+@Entity
+@Table(name = "sent_deadline_reminder")
+public class SentDeadlineReminder {
+
+    @Id
+    @Column(name = "assignment_id")
+    private Long assignmentId;
+
+    @Column(nullable = false)
+    private LocalDateTime deadline;
+
+    @Column(name = "sent_at", nullable = false)
+    private Instant sentAt;
+}
@@ -0,0 +1,12 @@
+package com.training.studienplaner.reminder;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SentDeadlineReminderRepository extends JpaRepository<SentDeadlineReminder, Long> {
+
+    boolean existsByAssignmentIdAndDeadline(Long assignmentId, LocalDateTime deadline);
+}
@@ -16,6 +16,15 @@ public class CustomUserDetails implements UserDetails {
 
     private final User user;
 
+    // principal rebuilt from token claims, without touching the database
+    public static CustomUserDetails fromClaims(Long userId, String email, User.Role role) {
+        return new CustomUserDetails(User.builder()
+                .userId(userId)
+                .email(email)
+                .role(role)
+                .build());
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singleton(
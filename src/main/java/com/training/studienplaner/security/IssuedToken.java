@@ -0,0 +1,10 @@
+package com.training.studienplaner.security;
+
+import java.time.Instant;
+
+public record IssuedToken(
+        String token,
+        String tokenId,
+        Instant expiresAt
+) {
+}
@@ -1,72 +1,157 @@
 package com.training.studienplaner.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.training.studienplaner.user.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 
+@Slf4j
 @Component
 public class JwtUtils {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private long expiration;
 
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheSize;
+
+    @Value("${jwt.verified-cache.ttl:PT30S}")
+    private Duration verifiedCacheTtl;
+
     private Key signingKey;
+    private JwtParser parser;
+    private Cache<String, Claims> verifiedTokens;
 
     @PostConstruct
     public void init() {
         signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        if (verifiedCacheSize > 0) {
+            verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheSize)
+                    .expireAfterWrite(verifiedCacheTtl)
+                    .build();
+        }
+    }
+
+    public long getExpiration() {
+        return expiration;
     }
 
     public String generateToken(UserDetails userDetails) {
+        return issueToken(userDetails).token();
+    }
+
+    // the token id (jti) is what TokenRevocationRegistry revokes
+    public IssuedToken issueToken(UserDetails userDetails) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expiration);
+        String tokenId = UUID.randomUUID().toString();
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(tokenId)
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(now)
-                .setExpiration(expiry)
+                .setExpiration(expiry);
+
+        if (userDetails instanceof CustomUserDetails customUserDetails) {
+            User user = customUserDetails.getUser();
+            builder.claim(CLAIM_USER_ID, user.getUserId())
+                    .claim(CLAIM_ROLE, user.getRole().name());
+        }
+
+        String token = builder
                 .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
+        return new IssuedToken(token, tokenId, expiry.toInstant());
+    }
+
+    // parses and verifies the token once; recently verified tokens skip the HMAC check
+    public JwtVerificationResult verifyAndExtract(String token) {
+        if (verifiedTokens != null) {
+            Claims cached = verifiedTokens.getIfPresent(token);
+            if (cached != null) {
+                if (isExpired(cached)) {
+                    verifiedTokens.invalidate(token);
+                    return JwtVerificationResult.failed(JwtVerificationResult.Status.EXPIRED);
+                }
+                return JwtVerificationResult.valid(cached);
+            }
+        }
+
+        JwtVerificationResult result = parse(token);
+        if (result.isValid() && verifiedTokens != null) {
+            verifiedTokens.put(token, result.claims());
+        }
+        return result;
     }
 
     public boolean validateToken(String token) {
+        return verifyAndExtract(token).isValid();
+    }
+
+    public String getUsernameFromToken(String token) {
+        return getClaimsFromToken(token).getSubject();
+    }
+
+    public Claims getClaimsFromToken(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    // null for tokens issued before uid/role claims were added
+    public CustomUserDetails getUserDetailsFromClaims(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        return CustomUserDetails.fromClaims(userId, claims.getSubject(), User.Role.valueOf(role));
+    }
+
+    private JwtVerificationResult parse(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return JwtVerificationResult.valid(parser.parseClaimsJws(token).getBody());
         } catch (ExpiredJwtException e) {
-            System.out.println("❌ Token expired");
+            log.debug("Token expired");
+            return JwtVerificationResult.failed(JwtVerificationResult.Status.EXPIRED);
         } catch (UnsupportedJwtException e) {
-            System.out.println("❌ Unsupported token");
+            log.debug("Unsupported token");
+            return JwtVerificationResult.failed(JwtVerificationResult.Status.UNSUPPORTED);
         } catch (MalformedJwtException e) {
-            System.out.println("❌ Invalid token format");
+            log.debug("Invalid token format");
+            return JwtVerificationResult.failed(JwtVerificationResult.Status.MALFORMED);
         } catch (SignatureException e) {
-            System.out.println("❌ Invalid signature");
-        } catch (Exception e) {
-            System.out.println("❌ General token error: " + e.getMessage());
+            log.debug("Invalid signature");
+            return JwtVerificationResult.failed(JwtVerificationResult.Status.INVALID_SIGNATURE);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("General token error: {}", e.getMessage());
+            return JwtVerificationResult.failed(JwtVerificationResult.Status.INVALID);
         }
-        return false;
     }
 
-    public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    private static boolean isExpired(Claims claims) {
+        Date expiry = claims.getExpiration();
+        return expiry != null && expiry.before(new Date());
     }
 }
-
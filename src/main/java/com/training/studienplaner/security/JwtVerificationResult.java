@@ -0,0 +1,30 @@
+package com.training.studienplaner.security;
+
+import io.jsonwebtoken.Claims;
+
+public record JwtVerificationResult(
+        Status status,
+        Claims claims
+) {
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        UNSUPPORTED,
+        MALFORMED,
+        INVALID_SIGNATURE,
+        INVALID
+    }
+
+    public static JwtVerificationResult valid(Claims claims) {
+        return new JwtVerificationResult(Status.VALID, claims);
+    }
+
+    public static JwtVerificationResult failed(Status status) {
+        return new JwtVerificationResult(status, null);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
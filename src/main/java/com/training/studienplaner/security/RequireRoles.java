@@ -0,0 +1,16 @@
+package com.training.studienplaner.security;
+
+import com.training.studienplaner.user.User;
+
+import java.lang.annotation.*;
+
+// Role check for controller methods, resolved once at startup by RoleAuthorizationInterceptor.
+// ADMIN is always allowed, an empty list allows ADMIN only. Checks that depend on method
+// arguments, such as access to the own user, stay on @PreAuthorize.
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequireRoles {
+
+    User.Role[] value() default {};
+}
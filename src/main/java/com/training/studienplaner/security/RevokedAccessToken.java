@@ -0,0 +1,34 @@
+package com.training.studienplaner.security;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// kept until the access token would have expired anyway
+@Getter
+@Setter
+@AllArgsConstructor
+@Builder
+@ToString
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "revoked_access_token",
+        indexes = {
+                @Index(name = "idx_revoked_access_token_revoked_at", columnList = "revoked_at"),
+                @Index(name = "idx_revoked_access_token_expires_at", columnList = "expires_at")
+        }
+)
+public class RevokedAccessToken {
+
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+}
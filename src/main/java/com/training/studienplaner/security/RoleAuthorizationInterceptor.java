@@ -0,0 +1,104 @@
+package com.training.studienplaner.security;
+
+import com.training.studienplaner.user.User;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Enforces @RequireRoles. The allowed roles of every handler method are collected into
+// EnumSets once all handler mappings exist, so a request costs one map lookup and one bit test
+// instead of a SpEL evaluation with a bean lookup.
+@Component
+public class RoleAuthorizationInterceptor implements HandlerInterceptor, SmartInitializingSingleton {
+
+    private static final Map<String, User.Role> AUTHORITY_ROLES = new HashMap<>();
+
+    static {
+        for (User.Role role : User.Role.values()) {
+            AUTHORITY_ROLES.put("ROLE_" + role.name(), role);
+        }
+    }
+
+    private final ListableBeanFactory beanFactory;
+    // an empty set marks handlers without @RequireRoles
+    private final Map<Method, Set<User.Role>> allowedRoles = new ConcurrentHashMap<>();
+
+    public RoleAuthorizationInterceptor(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (RequestMappingHandlerMapping mapping : beanFactory.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+                allowedRoles.put(handlerMethod.getMethod(), resolve(handlerMethod));
+            }
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        // handlers registered after startup are resolved on their first call
+        Set<User.Role> roles = allowedRoles.computeIfAbsent(handlerMethod.getMethod(), method -> resolve(handlerMethod));
+        if (roles.isEmpty()) {
+            return true;
+        }
+        User.Role role = roleOf(SecurityContextHolder.getContext().getAuthentication());
+        if (role == null || !roles.contains(role)) {
+            throw new AccessDeniedException("Forbidden");
+        }
+        return true;
+    }
+
+    // empty if the handler carries no @RequireRoles; the method annotation wins over the class one
+    static Set<User.Role> resolve(HandlerMethod handlerMethod) {
+        RequireRoles annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), RequireRoles.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), RequireRoles.class);
+        }
+        if (annotation == null) {
+            return Set.of();
+        }
+        EnumSet<User.Role> roles = EnumSet.of(User.Role.ADMIN);
+        roles.addAll(Arrays.asList(annotation.value()));
+        return roles;
+    }
+
+    // principals from the JWT filter carry the role directly, others only as authorities
+    static User.Role roleOf(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUser().getRole();
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            User.Role role = AUTHORITY_ROLES.get(authority.getAuthority());
+            if (role != null) {
+                return role;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,144 @@
+package com.training.studienplaner.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// In-memory copy of the revoked access tokens that have not expired yet, so the
+// authentication filter never queries the database. A Bloom filter in front of the exact
+// map answers the common case (token not revoked) from a few bit reads; only its rare false
+// positives and actual revocations look at the map. Revocations are written to
+// revoked_access_token and picked up by every replica within one refresh interval; the
+// revoking replica applies them as soon as its transaction commits.
+@Slf4j
+@Component
+public class TokenRevocationRegistry implements SmartLifecycle {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    // revoked_at is set from the clocks of the replicas, which may lag behind each other
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final RevokedAccessTokenRepository repository;
+    private final Duration refreshInterval;
+    private final long expectedTokens;
+    private final Clock clock;
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    private volatile long filterCapacity;
+    private volatile Instant lastSeen = Instant.EPOCH;
+
+    private ScheduledExecutorService refresher;
+    private volatile boolean running;
+
+    @Autowired
+    public TokenRevocationRegistry(RevokedAccessTokenRepository repository,
+                                   @Value("${jwt.revocation.refresh-interval:PT5S}") Duration refreshInterval,
+                                   @Value("${jwt.revocation.expected-tokens:100000}") long expectedTokens) {
+        this(repository, refreshInterval, expectedTokens, Clock.systemUTC());
+    }
+
+    TokenRevocationRegistry(RevokedAccessTokenRepository repository, Duration refreshInterval,
+                            long expectedTokens, Clock clock) {
+        this.repository = repository;
+        this.refreshInterval = refreshInterval;
+        this.expectedTokens = expectedTokens;
+        this.clock = clock;
+        this.filterCapacity = expectedTokens;
+        this.filter = new BloomFilter(expectedTokens, FALSE_POSITIVE_RATE);
+    }
+
+    @Override
+    public void start() {
+        refresh();
+        refresher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("token-revocations")
+                .daemon(true)
+                .factory());
+        refresher.scheduleWithFixedDelay(this::refreshQuietly,
+                refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        Instant expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt.isAfter(clock.instant());
+    }
+
+    // callers persist the revocations in their transaction and apply them here after the commit
+    public synchronized void revokeAll(Collection<RevokedAccessToken> tokens) {
+        for (RevokedAccessToken token : tokens) {
+            revoked.put(token.getTokenId(), token.getExpiresAt());
+            filter.put(token.getTokenId());
+        }
+    }
+
+    int size() {
+        return revoked.size();
+    }
+
+    // picks up revocations of other replicas, then drops expired entries and rows
+    void refresh() {
+        Instant now = clock.instant();
+        Instant since = lastSeen == Instant.EPOCH ? Instant.EPOCH : lastSeen.minus(CLOCK_SKEW);
+        Collection<RevokedAccessToken> tokens = repository.findByRevokedAtAfterAndExpiresAtAfter(since, now);
+        revokeAll(tokens);
+        tokens.stream()
+                .map(RevokedAccessToken::getRevokedAt)
+                .max(Instant::compareTo)
+                .ifPresent(latest -> lastSeen = latest.isAfter(lastSeen) ? latest : lastSeen);
+        boolean pruned = revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        if (pruned || revoked.size() > filterCapacity) {
+            rebuildFilter();
+        }
+        if (pruned) {
+            repository.deleteExpired(now);
+        }
+    }
+
+    // Bloom filters cannot forget entries, so expired ones are dropped by rebuilding;
+    // a filter filled beyond its capacity is rebuilt larger
+    private synchronized void rebuildFilter() {
+        long capacity = Math.max(expectedTokens, 2L * revoked.size());
+        BloomFilter rebuilt = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+        filterCapacity = capacity;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Refreshing revoked access tokens failed", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.training.studienplaner.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.cache.NullUserCache;
+
+import java.time.Duration;
+
+@Configuration
+public class UserCacheConfig {
+
+    @Bean
+    public UserCache userCache(@Value("${security.user-cache.enabled:true}") boolean enabled,
+                               @Value("${security.user-cache.maximum-size:10000}") long maximumSize,
+                               @Value("${security.user-cache.ttl:PT5M}") Duration timeToLive) {
+        if (!enabled) {
+            return new NullUserCache();
+        }
+        return new CaffeineUserCache(maximumSize, timeToLive);
+    }
+}
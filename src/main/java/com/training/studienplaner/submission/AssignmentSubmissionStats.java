@@ -0,0 +1,51 @@
+package com.training.studienplaner.submission;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// status counters per assignment, kept up to date by SubmissionStatsService;
+// the grade distribution lives in SubmissionGradeCount
+@Getter
+@Setter
+@AllArgsConstructor
+@Builder
+@ToString
+@NoArgsConstructor
+@Entity
+@Table(name = "assignment_submission_stats")
+public class AssignmentSubmissionStats {
+
+    @Id
+    @Column(name = "assignment_id")
+    private Long assignmentId;
+
+    @Column(name = "not_submitted", nullable = false)
+    private long notSubmitted;
+
+    @Column(name = "submitted", nullable = false)
+    private long submitted;
+
+    @Column(name = "reviewed", nullable = false)
+    private long reviewed;
+
+    @Column(name = "graded", nullable = false)
+    private long graded;
+
+    public long count(Submission.Status status) {
+        return switch (status) {
+            case NOT_SUBMITTED -> notSubmitted;
+            case SUBMITTED -> submitted;
+            case REVIEWED -> reviewed;
+            case GRADED -> graded;
+        };
+    }
+
+    void adjust(Submission.Status status, long delta) {
+        switch (status) {
+            case NOT_SUBMITTED -> notSubmitted += delta;
+            case SUBMITTED -> submitted += delta;
+            case REVIEWED -> reviewed += delta;
+            case GRADED -> graded += delta;
+        }
+    }
+}
@@ -13,19 +13,35 @@ import java.time.LocalDateTime;
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "submission")
+// assignment and course are left out: they come from the second-level cache, or are batch fetched on a miss
+@NamedEntityGraph(name = Submission.WITH_STUDENT, attributeNodes = @NamedAttributeNode("student"))
+@Table(
+        name = "submission",
+        indexes = {
+                @Index(name = "idx_submission_status_id", columnList = "status, submission_id"),
+                @Index(name = "idx_submission_assignment_id", columnList = "assignment_id, submission_id"),
+                @Index(name = "idx_submission_student_id", columnList = "student_id, submission_id"),
+                @Index(name = "idx_submission_grade_id", columnList = "grade, submission_id"),
+                @Index(name = "idx_submission_student_status", columnList = "student_id, status"),
+                @Index(name = "idx_submission_student_assignment", columnList = "student_id, assignment_id")
+        }
+)
 public class Submission {
+    public static final String WITH_STUDENT = "Submission.withStudent";
+
     @Id
     @GeneratedValue(
-            strategy = GenerationType.IDENTITY
+            strategy = GenerationType.SEQUENCE,
+            generator = "submission_seq"
     )
+    @SequenceGenerator(name = "submission_seq", sequenceName = "submission_seq", allocationSize = 50)
     private Long submissionId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignment_id", nullable = false)
     private Assignment assignment;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
     private User student;
 
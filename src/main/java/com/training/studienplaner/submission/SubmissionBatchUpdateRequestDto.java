@@ -0,0 +1,14 @@
+package com.training.studienplaner.submission;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record SubmissionBatchUpdateRequestDto(
+        @NotEmpty(message = "Liste der Änderungen darf nicht leer sein")
+        @Size(max = 5000, message = "Es können maximal 5000 Abgaben auf einmal geändert werden")
+        List<@NotNull SubmissionUpdateDto> changes
+) {
+}
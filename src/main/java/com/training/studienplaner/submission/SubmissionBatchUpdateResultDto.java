@@ -0,0 +1,10 @@
+package com.training.studienplaner.submission;
+
+import java.util.List;
+
+public record SubmissionBatchUpdateResultDto(
+        int requested,
+        int updated,
+        List<SubmissionUpdateResultDto> results
+) {
+}
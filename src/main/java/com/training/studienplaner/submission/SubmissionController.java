@@ -1,67 +1,107 @@
 package com.training.studienplaner.submission;
 
+import com.training.studienplaner.security.RequireRoles;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static com.training.studienplaner.user.User.Role.STUDENT;
+import static com.training.studienplaner.user.User.Role.TEACHER;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/submissions")
 public class SubmissionController {
 
     private final SubmissionService submissionService;
+    private final SubmissionExportService submissionExportService;
 
     @GetMapping
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<List<SubmissionResponseDto>> getSubmissions() {
         return ResponseEntity.ok(submissionService.getAllSubmissions());
     }
 
+    @GetMapping("/page")
+    @RequireRoles(TEACHER)
+    public ResponseEntity<SubmissionPageDto> getSubmissionPage(SubmissionFilter filter,
+                                                               @RequestParam(required = false) Long cursor,
+                                                               @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(submissionService.getSubmissionPage(filter, cursor, limit));
+    }
+
+    @GetMapping("/export")
+    @RequireRoles(TEACHER)
+    public void exportSubmissions(@RequestParam(defaultValue = "NDJSON") SubmissionExportFormat format,
+                                  @RequestParam(required = false) Long courseId,
+                                  HttpServletResponse response) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"submissions." + format.getFileExtension() + "\"");
+        submissionExportService.export(format, courseId, response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<SubmissionResponseDto> getSubmissionById(@PathVariable Long id) {
         return ResponseEntity.ok(submissionService.getSubmissionById(id));
     }
 
     @PostMapping
-    @PreAuthorize("@authz.canAccessAny(principal, 'STUDENT')")
+    @RequireRoles(STUDENT)
     public ResponseEntity<SubmissionResponseDto> createSubmission(@Valid @RequestBody SubmissionRequestDto submissionDto) {
         SubmissionResponseDto response = submissionService.saveSubmission(submissionDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("@authz.canAccessAny(principal, 'STUDENT')")
+    @RequireRoles(STUDENT)
     public ResponseEntity<Void> deleteSubmission(@PathVariable Long id) {
         submissionService.deleteSubmissionById(id);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/assignment/{assignmentId}")
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<List<SubmissionResponseDto>> getSubmissionsByAssignmentId(@PathVariable Long assignmentId) {
         return ResponseEntity.ok(submissionService.getSubmissionsByAssignmentId(assignmentId));
     }
 
+    @GetMapping("/assignment/{assignmentId}/stats")
+    @RequireRoles(TEACHER)
+    public ResponseEntity<SubmissionStatsDto> getStatsByAssignmentId(@PathVariable Long assignmentId) {
+        return ResponseEntity.ok(submissionService.getStatsByAssignmentId(assignmentId));
+    }
+
     @GetMapping("/user/{userId}")
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<List<SubmissionResponseDto>> getSubmissionsByUserId(@PathVariable Long userId) {
         return ResponseEntity.ok(submissionService.getSubmissionsByUserId(userId));
     }
 
+    @PutMapping("/batch")
+    @RequireRoles(TEACHER)
+    public ResponseEntity<SubmissionBatchUpdateResultDto> updateSubmissions(@Valid @RequestBody SubmissionBatchUpdateRequestDto dto) {
+        return ResponseEntity.ok(submissionService.updateSubmissions(dto));
+    }
+
     @PutMapping("/{id}/status")
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<SubmissionResponseDto> updateSubmissionStatus(@PathVariable Long id, @RequestBody Submission.Status status) {
         return ResponseEntity.ok(submissionService.updateSubmissionStatus(id, status));
     }
 
     @PutMapping("/{id}/grade")
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<SubmissionResponseDto> updateSubmissionGrade(@PathVariable Long id, @RequestBody Double grade) {
         return ResponseEntity.ok(submissionService.updateSubmissionGrade(id, grade));
     }
@@ -0,0 +1,18 @@
+package com.training.studienplaner.submission;
+
+import java.time.LocalDateTime;
+
+public record SubmissionExportRow(
+        Long submissionId,
+        Long assignmentId,
+        String assignmentTitle,
+        Long courseId,
+        Long studentId,
+        String studentName,
+        String studentSurname,
+        String studentEmail,
+        Submission.Status status,
+        Double grade,
+        LocalDateTime submittedAt
+) {
+}
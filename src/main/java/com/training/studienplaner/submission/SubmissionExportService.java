@@ -0,0 +1,127 @@
+package com.training.studienplaner.submission;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+@Service
+public class SubmissionExportService {
+
+    static final int FETCH_SIZE = 500;
+
+    private static final String EXPORT_QUERY = """
+            SELECT s.submission_id, s.assignment_id, a.title AS assignment_title, a.course_id,
+                   s.student_id, u.name, u.surname, u.email, s.status, s.grade, s.submitted_at
+            FROM submission s
+            JOIN assignment a ON a.assignment_id = s.assignment_id
+            JOIN users u ON u.user_id = s.student_id
+            """;
+    private static final String COURSE_FILTER = "WHERE a.course_id = ?\n";
+    private static final String ORDER_BY = "ORDER BY s.submission_id";
+
+    private static final String CSV_HEADER = "submissionId,assignmentId,assignmentTitle,courseId,studentId,"
+            + "studentName,studentSurname,studentEmail,status,grade,submittedAt";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectWriter jsonWriter;
+
+    public SubmissionExportService(DataSource dataSource, ObjectMapper objectMapper) {
+        // own template: the fetch size must not leak into other JdbcTemplate users
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.jsonWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    // the surrounding transaction keeps autocommit off, which PostgreSQL needs to stream with a cursor
+    @Transactional(readOnly = true)
+    public void export(SubmissionExportFormat format, Long courseId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == SubmissionExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        RowCallbackHandler handler = rs -> writeRow(format, toRow(rs), writer);
+        try {
+            if (courseId == null) {
+                jdbcTemplate.query(EXPORT_QUERY + ORDER_BY, handler);
+            } else {
+                jdbcTemplate.query(EXPORT_QUERY + COURSE_FILTER + ORDER_BY, handler, courseId);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeRow(SubmissionExportFormat format, SubmissionExportRow row, Writer writer) {
+        try {
+            if (format == SubmissionExportFormat.CSV) {
+                writeCsv(row, writer);
+            } else {
+                jsonWriter.writeValue(writer, row);
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(SubmissionExportRow row, Writer writer) throws IOException {
+        Object[] values = {
+                row.submissionId(), row.assignmentId(), row.assignmentTitle(), row.courseId(), row.studentId(),
+                row.studentName(), row.studentSurname(), row.studentEmail(), row.status(), row.grade(),
+                row.submittedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private static SubmissionExportRow toRow(ResultSet rs) throws SQLException {
+        Timestamp submittedAt = rs.getTimestamp("submitted_at");
+        return new SubmissionExportRow(
+                rs.getLong("submission_id"),
+                rs.getLong("assignment_id"),
+                rs.getString("assignment_title"),
+                rs.getObject("course_id", Long.class),
+                rs.getLong("student_id"),
+                rs.getString("name"),
+                rs.getString("surname"),
+                rs.getString("email"),
+                Submission.Status.valueOf(rs.getString("status")),
+                rs.getObject("grade", Double.class),
+                submittedAt == null ? null : submittedAt.toLocalDateTime()
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.training.studienplaner.submission;
+
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record SubmissionFilter(
+        Submission.Status status,
+        Long assignmentId,
+        Long studentId,
+        Double minGrade,
+        Double maxGrade
+) {
+
+    public static SubmissionFilter none() {
+        return new SubmissionFilter(null, null, null, null, null);
+    }
+
+    // keyset condition plus optional filters; ordering by submissionId is applied by the caller
+    Specification<Submission> toSpecification(Long cursor) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (cursor != null) {
+                predicates.add(cb.greaterThan(root.get("submissionId"), cursor));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (assignmentId != null) {
+                predicates.add(cb.equal(root.get("assignment").get("assignmentId"), assignmentId));
+            }
+            if (studentId != null) {
+                predicates.add(cb.equal(root.get("student").get("userId"), studentId));
+            }
+            if (minGrade != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("grade"), minGrade));
+            }
+            if (maxGrade != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("grade"), maxGrade));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.training.studienplaner.submission;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+// number of submissions per assignment and grade; a handful of rows per assignment
+// are enough for min, max, mean and median without reading the submissions
+@Getter
+@Setter
+@AllArgsConstructor
+@ToString
+@NoArgsConstructor
+@Entity
+@Table(name = "submission_grade_count")
+public class SubmissionGradeCount {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "submissions", nullable = false)
+    private long submissions;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Column(name = "assignment_id")
+        private Long assignmentId;
+
+        @Column(name = "grade")
+        private Double grade;
+    }
+}
@@ -0,0 +1,12 @@
+package com.training.studienplaner.submission;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SubmissionGradeCountRepository extends JpaRepository<SubmissionGradeCount, SubmissionGradeCount.Key> {
+
+    List<SubmissionGradeCount> findByIdAssignmentIdOrderByIdGradeAsc(Long assignmentId);
+}
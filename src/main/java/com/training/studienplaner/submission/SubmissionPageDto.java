@@ -0,0 +1,9 @@
+package com.training.studienplaner.submission;
+
+import java.util.List;
+
+public record SubmissionPageDto(
+        List<SubmissionResponseDto> items,
+        Long nextCursor
+) {
+}
@@ -1,12 +1,67 @@
 package com.training.studienplaner.submission;
 
+import com.training.studienplaner.user.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface SubmissionRepository extends JpaRepository<Submission, Long> {
+public interface SubmissionRepository extends JpaRepository<Submission, Long>, JpaSpecificationExecutor<Submission> {
+    @EntityGraph(Submission.WITH_STUDENT)
     List<Submission> findByAssignmentAssignmentId(Long assignmentId);
+
+    @EntityGraph(Submission.WITH_STUDENT)
     List<Submission> findByStudentUserId(Long userId);
+
+    @Override
+    @EntityGraph(Submission.WITH_STUDENT)
+    Optional<Submission> findById(Long id);
+
+    // the old status and grade feed SubmissionStatsService, so concurrent changes of one
+    // submission must not both read the same old values
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Submission s where s.submissionId = :id")
+    Optional<Submission> findByIdForUpdate(@Param("id") Long id);
+
+    // rows are locked in id order, so overlapping batches cannot deadlock each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Submission s where s.submissionId in :ids order by s.submissionId")
+    List<Submission> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // one INSERT ... SELECT over user_courses instead of one INSERT per enrolled student.
+    // Native because HQL falls back to a temp table plus per-row id updates for pooled-lo
+    // sequences; nextval per row reserves a whole block, which only leaves gaps in the ids.
+    // The query spaces name the tables read and written, so Hibernate flushes pending changes to
+    // them first and only invalidates the matching second-level cache regions instead of all.
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "submission"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "assignment"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_courses"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users")
+    })
+    @Query(nativeQuery = true, value = """
+            insert into submission (submission_id, assignment_id, student_id, status, submitted_at)
+            select nextval('submission_seq'), a.assignment_id, u.user_id, :#{#status.name()}, current_timestamp
+            from assignment a
+            join user_courses uc on uc.course_id = a.course_id
+            join users u on u.user_id = uc.user_id
+            where a.assignment_id = :assignmentId and u.role = :#{#role.name()}
+            """)
+    int insertPlaceholders(@Param("assignmentId") Long assignmentId,
+                           @Param("role") User.Role role,
+                           @Param("status") Submission.Status status);
 }
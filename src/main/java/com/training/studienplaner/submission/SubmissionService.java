@@ -2,54 +2,79 @@ package com.training.studienplaner.submission;
 
 import com.training.studienplaner.assignment.Assignment;
 import com.training.studienplaner.assignment.AssignmentRepository;
+import com.training.studienplaner.cache.EntityChangeEvent;
 import com.training.studienplaner.user.User;
 import com.training.studienplaner.user.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class SubmissionService {
 
+    static final int MAX_PAGE_SIZE = 500;
+    // GET /submissions without paging parameters is capped instead of loading the whole table
+    static final int LEGACY_LIST_LIMIT = 1000;
+    static final int MAX_BATCH_UPDATE = 5000;
+    // keeps the IN list well below the bind parameter limits of the JDBC drivers
+    private static final int BATCH_LOAD_CHUNK_SIZE = 1000;
+
     private final SubmissionRepository submissionRepository;
     private final AssignmentRepository assignmentRepository;
     private final UserRepository userRepository;
     private final SubmissionMapper submissionMapper;
-
-    public void generateSubmissionsForAssignment(Assignment assignment) {
-        List<User> students = assignment.getCourse().getStudents().stream()
-                .filter(user -> user.getRole() == User.Role.STUDENT)
-                .toList();
-
-        List<Submission> submissions = students.stream()
-                .map(student -> Submission.builder()
-                        .assignment(assignment)
-                        .student(student)
-                        .status(Submission.Status.NOT_SUBMITTED)
-                        .build())
-                .toList();
-
-        submissionRepository.saveAll(submissions);
+    private final SubmissionStatsService submissionStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public int generateSubmissionsForAssignment(Assignment assignment) {
+        int generated = submissionRepository.insertPlaceholders(
+                assignment.getAssignmentId(),
+                User.Role.STUDENT,
+                Submission.Status.NOT_SUBMITTED
+        );
+        submissionStatsService.submissionsAdded(assignment.getAssignmentId(), Submission.Status.NOT_SUBMITTED, null, generated);
+        eventPublisher.publishEvent(EntityChangeEvent.submission(null, assignment.getAssignmentId()));
+        return generated;
     }
 
     public List<SubmissionResponseDto> getAllSubmissions() {
-        List<Submission> submissions = submissionRepository.findAll();
+        List<Submission> submissions = findPage(SubmissionFilter.none(), null, LEGACY_LIST_LIMIT);
         return submissionMapper.toResponseDto(submissions);
     }
 
+    public SubmissionPageDto getSubmissionPage(SubmissionFilter filter, Long cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Submission> submissions = findPage(filter, cursor, pageSize + 1);
+
+        boolean hasMore = submissions.size() > pageSize;
+        List<Submission> page = hasMore ? submissions.subList(0, pageSize) : submissions;
+        Long nextCursor = hasMore ? page.get(page.size() - 1).getSubmissionId() : null;
+        return new SubmissionPageDto(submissionMapper.toResponseDto(page), nextCursor);
+    }
+
     public SubmissionResponseDto getSubmissionById(Long id) {
         Submission submission = submissionRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Submission not found"));
         return submissionMapper.toResponseDto(submission);
     }
 
+    @Transactional
     public void deleteSubmissionById(Long id) {
-        Submission submission = submissionRepository.findById(id)
+        Submission submission = submissionRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException("Submission not found"));
         submissionRepository.delete(submission);
+        submissionStatsService.submissionRemoved(assignmentIdOf(submission), submission.getStatus(), submission.getGrade());
+        publishChange(submission);
     }
 
     public List<SubmissionResponseDto> getSubmissionsByAssignmentId(Long assignmentId) {
@@ -62,6 +87,11 @@ public class SubmissionService {
         return submissionMapper.toResponseDto(submissions);
     }
 
+    public SubmissionStatsDto getStatsByAssignmentId(Long assignmentId) {
+        return submissionStatsService.getStats(assignmentId);
+    }
+
+    @Transactional
     public SubmissionResponseDto saveSubmission(SubmissionRequestDto dto) {
         /**
          * hardcode below!
@@ -82,23 +112,113 @@ public class SubmissionService {
         submission.setStudent(user);
 
         Submission saved = submissionRepository.save(submission);
+        submissionStatsService.submissionsAdded(assignment.getAssignmentId(), saved.getStatus(), saved.getGrade(), 1);
+        publishChange(saved);
         return submissionMapper.toResponseDto(saved);
     }
 
 
+    @Transactional
     public SubmissionResponseDto updateSubmissionStatus(Long id, Submission.Status status) {
-        Submission submission = submissionRepository.findById(id)
+        Submission submission = submissionRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException("Submission not found"));
+        Submission.Status oldStatus = submission.getStatus();
         submission.setStatus(status);
         Submission updated = submissionRepository.save(submission);
+        submissionStatsService.submissionChanged(assignmentIdOf(updated),
+                oldStatus, updated.getGrade(), updated.getStatus(), updated.getGrade());
+        publishChange(updated);
         return submissionMapper.toResponseDto(updated);
     }
 
+    @Transactional
     public SubmissionResponseDto updateSubmissionGrade(Long id, Double grade) {
-        Submission submission = submissionRepository.findById(id)
+        Submission submission = submissionRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException("Submission not found"));
+        Double oldGrade = submission.getGrade();
         submission.setGrade(grade);
         Submission updated = submissionRepository.save(submission);
+        submissionStatsService.submissionChanged(assignmentIdOf(updated),
+                updated.getStatus(), oldGrade, updated.getStatus(), updated.getGrade());
+        publishChange(updated);
         return submissionMapper.toResponseDto(updated);
     }
+
+    // loads the submissions in a few IN queries and lets the flush write them as batched UPDATEs
+    // (hibernate.jdbc.batch_size); items are applied in request order, a repeated id sees the earlier change
+    @Transactional
+    public SubmissionBatchUpdateResultDto updateSubmissions(SubmissionBatchUpdateRequestDto dto) {
+        List<SubmissionUpdateDto> changes = dto.changes();
+        if (changes == null || changes.isEmpty() || changes.size() > MAX_BATCH_UPDATE) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_BATCH_UPDATE + " changes are required");
+        }
+        Map<Long, Submission> submissions = findAllByIdForUpdate(changes.stream()
+                .filter(change -> change != null && change.submissionId() != null)
+                .map(SubmissionUpdateDto::submissionId)
+                .distinct()
+                .sorted()
+                .toList());
+
+        List<SubmissionUpdateResultDto> results = new ArrayList<>(changes.size());
+        List<SubmissionStatsService.Change> statsChanges = new ArrayList<>();
+        for (SubmissionUpdateDto change : changes) {
+            if (change == null || change.submissionId() == null || (change.grade() == null && change.status() == null)) {
+                results.add(new SubmissionUpdateResultDto(change != null ? change.submissionId() : null,
+                        SubmissionUpdateResultDto.Outcome.INVALID));
+                continue;
+            }
+            Submission submission = submissions.get(change.submissionId());
+            if (submission == null) {
+                results.add(new SubmissionUpdateResultDto(change.submissionId(), SubmissionUpdateResultDto.Outcome.NOT_FOUND));
+                continue;
+            }
+            SubmissionStatsService.Change statsChange = new SubmissionStatsService.Change(assignmentIdOf(submission),
+                    submission.getStatus(), submission.getGrade(),
+                    change.status() != null ? change.status() : submission.getStatus(),
+                    change.grade() != null ? change.grade() : submission.getGrade());
+            if (statsChange.isNoOp()) {
+                results.add(new SubmissionUpdateResultDto(change.submissionId(), SubmissionUpdateResultDto.Outcome.UNCHANGED));
+                continue;
+            }
+            submission.setStatus(statsChange.newStatus());
+            submission.setGrade(statsChange.newGrade());
+            statsChanges.add(statsChange);
+            results.add(new SubmissionUpdateResultDto(change.submissionId(), SubmissionUpdateResultDto.Outcome.UPDATED));
+        }
+        submissionStatsService.submissionsChanged(statsChanges);
+        // one event per assignment instead of one per submission
+        statsChanges.stream()
+                .map(SubmissionStatsService.Change::assignmentId)
+                .distinct()
+                .forEach(assignmentId -> eventPublisher.publishEvent(EntityChangeEvent.submission(null, assignmentId)));
+        return new SubmissionBatchUpdateResultDto(changes.size(), statsChanges.size(), results);
+    }
+
+    // the ids are sorted, so the chunks lock in ascending order as well, like a single update
+    // the submission rows are locked before the stats rows
+    private Map<Long, Submission> findAllByIdForUpdate(List<Long> ids) {
+        Map<Long, Submission> submissions = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += BATCH_LOAD_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BATCH_LOAD_CHUNK_SIZE, ids.size()));
+            submissionRepository.findAllByIdForUpdate(chunk)
+                    .forEach(submission -> submissions.put(submission.getSubmissionId(), submission));
+        }
+        return submissions;
+    }
+
+    private void publishChange(Submission submission) {
+        eventPublisher.publishEvent(EntityChangeEvent.submission(submission.getSubmissionId(), assignmentIdOf(submission)));
+    }
+
+    private static Long assignmentIdOf(Submission submission) {
+        return submission.getAssignment() != null ? submission.getAssignment().getAssignmentId() : null;
+    }
+
+    private List<Submission> findPage(SubmissionFilter filter, Long cursor, int limit) {
+        return submissionRepository.findBy(filter.toSpecification(cursor), query -> query
+                .sortBy(Sort.by("submissionId"))
+                .project("student")
+                .limit(limit)
+                .all());
+    }
 }
@@ -0,0 +1,14 @@
+package com.training.studienplaner.submission;
+
+import java.util.Map;
+
+public record SubmissionStatsDto(
+        Long assignmentId,
+        Map<Submission.Status, Long> statusCounts,
+        long gradedSubmissions,
+        Double minGrade,
+        Double maxGrade,
+        Double meanGrade,
+        Double medianGrade
+) {
+}
@@ -0,0 +1,33 @@
+package com.training.studienplaner.submission;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SubmissionStatsRepository extends JpaRepository<AssignmentSubmissionStats, Long> {
+
+    // serializes all counter and histogram changes of one assignment
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AssignmentSubmissionStats s where s.assignmentId = :assignmentId")
+    Optional<AssignmentSubmissionStats> findForUpdate(@Param("assignmentId") Long assignmentId);
+
+    // a concurrent writer creating the same row makes this a no-op instead of a duplicate key error
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "assignment_submission_stats"))
+    @Query(nativeQuery = true, value = """
+            insert into assignment_submission_stats (assignment_id, not_submitted, submitted, reviewed, graded)
+            values (:assignmentId, 0, 0, 0, 0)
+            on conflict do nothing
+            """)
+    int insertIfAbsent(@Param("assignmentId") Long assignmentId);
+}
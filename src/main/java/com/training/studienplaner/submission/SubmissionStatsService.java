@@ -0,0 +1,154 @@
+package com.training.studienplaner.submission;
+
+import com.training.studienplaner.assignment.AssignmentRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+// Maintains the per-assignment summary incrementally in the transaction of the submission
+// change, so reading the statistics never scans the submissions of an assignment.
+@Service
+@RequiredArgsConstructor
+public class SubmissionStatsService {
+
+    private final SubmissionStatsRepository statsRepository;
+    private final SubmissionGradeCountRepository gradeCountRepository;
+    private final AssignmentRepository assignmentRepository;
+
+    public record Change(Long assignmentId,
+                         Submission.Status oldStatus, Double oldGrade,
+                         Submission.Status newStatus, Double newGrade) {
+
+        boolean isNoOp() {
+            return oldStatus == newStatus && Objects.equals(oldGrade, newGrade);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void submissionsAdded(Long assignmentId, Submission.Status status, Double grade, long count) {
+        if (count == 0) {
+            return;
+        }
+        AssignmentSubmissionStats stats = lockStats(assignmentId);
+        stats.adjust(status, count);
+        if (grade != null) {
+            adjustGrade(assignmentId, grade, count);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void submissionRemoved(Long assignmentId, Submission.Status status, Double grade) {
+        submissionsAdded(assignmentId, status, grade, -1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void submissionChanged(Long assignmentId,
+                                  Submission.Status oldStatus, Double oldGrade,
+                                  Submission.Status newStatus, Double newGrade) {
+        submissionsChanged(List.of(new Change(assignmentId, oldStatus, oldGrade, newStatus, newGrade)));
+    }
+
+    // each assignment row is locked once, in id order so that concurrent batches cannot deadlock,
+    // and each touched grade bucket is written once with the summed delta
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void submissionsChanged(Collection<Change> changes) {
+        Map<Long, List<Change>> byAssignment = changes.stream()
+                .filter(change -> !change.isNoOp())
+                .collect(Collectors.groupingBy(Change::assignmentId, TreeMap::new, Collectors.toList()));
+        byAssignment.forEach((assignmentId, assignmentChanges) -> {
+            AssignmentSubmissionStats stats = lockStats(assignmentId);
+            Map<Double, Long> gradeDeltas = new TreeMap<>();
+            for (Change change : assignmentChanges) {
+                stats.adjust(change.oldStatus(), -1);
+                stats.adjust(change.newStatus(), 1);
+                if (change.oldGrade() != null) {
+                    gradeDeltas.merge(change.oldGrade(), -1L, Long::sum);
+                }
+                if (change.newGrade() != null) {
+                    gradeDeltas.merge(change.newGrade(), 1L, Long::sum);
+                }
+            }
+            gradeDeltas.forEach((grade, delta) -> {
+                if (delta != 0) {
+                    adjustGrade(assignmentId, grade, delta);
+                }
+            });
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public SubmissionStatsDto getStats(Long assignmentId) {
+        AssignmentSubmissionStats stats = statsRepository.findById(assignmentId).orElse(null);
+        if (stats == null) {
+            if (!assignmentRepository.existsById(assignmentId)) {
+                throw new EntityNotFoundException("Assignment not found");
+            }
+            stats = AssignmentSubmissionStats.builder().assignmentId(assignmentId).build();
+        }
+        Map<Submission.Status, Long> statusCounts = new EnumMap<>(Submission.Status.class);
+        for (Submission.Status status : Submission.Status.values()) {
+            statusCounts.put(status, stats.count(status));
+        }
+        return toDto(assignmentId, statusCounts, gradeCountRepository.findByIdAssignmentIdOrderByIdGradeAsc(assignmentId));
+    }
+
+    // the histogram is sorted by grade, so min, max and median fall out of one pass
+    static SubmissionStatsDto toDto(Long assignmentId, Map<Submission.Status, Long> statusCounts,
+                                    List<SubmissionGradeCount> histogram) {
+        long total = histogram.stream().mapToLong(SubmissionGradeCount::getSubmissions).sum();
+        if (total == 0) {
+            return new SubmissionStatsDto(assignmentId, statusCounts, 0, null, null, null, null);
+        }
+        double sum = 0;
+        long seen = 0;
+        Double lowerMiddle = null;
+        Double upperMiddle = null;
+        for (SubmissionGradeCount bucket : histogram) {
+            double grade = bucket.getId().getGrade();
+            sum += grade * bucket.getSubmissions();
+            seen += bucket.getSubmissions();
+            // 1-based ranks (total + 1) / 2 and total / 2 + 1 are the middle values
+            if (lowerMiddle == null && seen >= (total + 1) / 2) {
+                lowerMiddle = grade;
+            }
+            if (upperMiddle == null && seen >= total / 2 + 1) {
+                upperMiddle = grade;
+            }
+        }
+        Double min = histogram.get(0).getId().getGrade();
+        Double max = histogram.get(histogram.size() - 1).getId().getGrade();
+        return new SubmissionStatsDto(assignmentId, statusCounts, total, min, max,
+                sum / total, (lowerMiddle + upperMiddle) / 2);
+    }
+
+    private AssignmentSubmissionStats lockStats(Long assignmentId) {
+        // existing assignments were backfilled by the migration, new ones get their row on the first change
+        return statsRepository.findForUpdate(assignmentId).orElseGet(() -> {
+            statsRepository.insertIfAbsent(assignmentId);
+            return statsRepository.findForUpdate(assignmentId)
+                    .orElseThrow(() -> new EntityNotFoundException("Assignment not found"));
+        });
+    }
+
+    private void adjustGrade(Long assignmentId, Double grade, long delta) {
+        SubmissionGradeCount.Key key = new SubmissionGradeCount.Key(assignmentId, grade);
+        SubmissionGradeCount bucket = gradeCountRepository.findById(key)
+                .orElseGet(() -> new SubmissionGradeCount(key, 0));
+        bucket.setSubmissions(bucket.getSubmissions() + delta);
+        if (bucket.getSubmissions() > 0) {
+            gradeCountRepository.save(bucket);
+        } else {
+            gradeCountRepository.delete(bucket);
+        }
+    }
+}
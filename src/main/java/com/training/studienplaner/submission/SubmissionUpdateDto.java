@@ -0,0 +1,14 @@
+package com.training.studienplaner.submission;
+
+import jakarta.validation.constraints.NotNull;
+
+// grade and status are optional, a missing value leaves the field as it is
+public record SubmissionUpdateDto(
+        @NotNull(message = "Abgabe-ID darf nicht null sein")
+        Long submissionId,
+
+        Double grade,
+
+        Submission.Status status
+) {
+}
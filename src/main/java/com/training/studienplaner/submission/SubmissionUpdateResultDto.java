@@ -0,0 +1,14 @@
+package com.training.studienplaner.submission;
+
+public record SubmissionUpdateResultDto(
+        Long submissionId,
+        Outcome outcome
+) {
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND,
+        INVALID
+    }
+}
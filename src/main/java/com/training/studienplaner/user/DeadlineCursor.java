@@ -0,0 +1,16 @@
+package com.training.studienplaner.user;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// keyset position (deadline, assignmentId) of the last item of the previous page
+public record DeadlineCursor(
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterDeadline,
+        Long afterAssignmentId
+) {
+
+    boolean isPresent() {
+        return afterDeadline != null && afterAssignmentId != null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.training.studienplaner.user;
+
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.submission.Submission;
+
+import java.time.LocalDateTime;
+
+// status, grade and submissionId are null when no submission slot exists for the user
+public record DeadlineDto(
+        Long assignmentId,
+        String title,
+        Assignment.AssignmentType type,
+        LocalDateTime deadline,
+        Long courseId,
+        String courseTitle,
+        Long submissionId,
+        Submission.Status status,
+        Double grade
+) {
+}
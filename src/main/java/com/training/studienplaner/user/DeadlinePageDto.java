@@ -0,0 +1,9 @@
+package com.training.studienplaner.user;
+
+import java.util.List;
+
+public record DeadlinePageDto(
+        List<DeadlineDto> items,
+        DeadlineCursor nextCursor
+) {
+}
@@ -4,7 +4,7 @@ import com.training.studienplaner.course.Course;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.util.List;
+import java.util.Set;
 
 @Getter
 @Setter
@@ -13,12 +13,17 @@ import java.util.List;
 @ToString
 @NoArgsConstructor
 @Entity
-@Table(name = "users")
+@NamedEntityGraph(name = User.WITH_COURSES, attributeNodes = @NamedAttributeNode("coursesList"))
+@Table(name = "users", indexes = @Index(name = "idx_users_role", columnList = "role"))
 public class User {
+    public static final String WITH_COURSES = "User.withCourses";
+
     @Id
     @GeneratedValue(
-            strategy = GenerationType.IDENTITY
+            strategy = GenerationType.SEQUENCE,
+            generator = "users_seq"
     )
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long userId;
 
     @Column(
@@ -62,8 +67,13 @@ public class User {
     @JoinTable(
             name = "user_courses",
             joinColumns = @JoinColumn(name = "user_id"),
-            inverseJoinColumns = @JoinColumn(name = "course_id")
+            inverseJoinColumns = @JoinColumn(name = "course_id"),
+            indexes = @Index(name = "idx_user_courses_course", columnList = "course_id")
     )
-    private List<Course> coursesList;
+    @OrderBy("courseId")
+    private Set<Course> coursesList;
+
+    @Version
+    private long version;
 
 }
@@ -2,16 +2,21 @@ package com.training.studienplaner.user;
 
 import com.training.studienplaner.course.CourseResponseDto;
 import com.training.studienplaner.security.CustomUserDetails;
+import com.training.studienplaner.security.RequireRoles;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.training.studienplaner.user.User.Role.TEACHER;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/users")
@@ -26,35 +31,41 @@ public class UserController {
     }
 
     @GetMapping
-    @PreAuthorize("@authz.canAccessAny(authentication)")
+    @RequireRoles
     public ResponseEntity<List<UserResponseDto>> getAllUsers() {
         List<UserResponseDto> dtoList = userService.getAll();
         return ResponseEntity.ok(dtoList);
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<UserResponseDto> getUser(@PathVariable Long id) {
         UserResponseDto responseDto = userService.getById(id);
         return ResponseEntity.ok(responseDto);
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("@authz.canAccessAny(principal)")
+    @RequireRoles
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
         userService.deleteById(id);
         return ResponseEntity.noContent().build();
     }
 
+    @PutMapping("/{id}/role")
+    @RequireRoles
+    public ResponseEntity<UserResponseDto> changeRole(@PathVariable Long id, @RequestBody User.Role role) {
+        return ResponseEntity.ok(userService.changeRole(id, role));
+    }
+
     @GetMapping("/students")
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<List<UserResponseDto>> getStudents() {
         List<UserResponseDto> response = userService.findUsersByRole(User.Role.STUDENT);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/email/{email}")
-    @PreAuthorize("@authz.canAccessAny(principal, 'TEACHER')")
+    @RequireRoles(TEACHER)
     public ResponseEntity<UserResponseDto> getUserByEmail(@PathVariable String email) {
         UserResponseDto responseDto = userService.findByEmail(email);
         return ResponseEntity.ok(responseDto);
@@ -68,6 +79,19 @@ public class UserController {
         return ResponseEntity.ok(courses);
     }
 
+    @GetMapping("/{id}/deadlines")
+    @PreAuthorize("#userDetails != null and (#id == #userDetails.user.getUserId() or hasAnyRole('TEACHER', 'ADMIN'))")
+    public ResponseEntity<DeadlinePageDto> getUserDeadlines(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            DeadlineCursor cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ResponseEntity.ok(userService.getDeadlines(id, from, to, cursor, limit));
+    }
+
     @PostMapping("/{userId}/courses/{courseId}")
     @PreAuthorize("#userDetails != null and (#userId == #userDetails.user.getUserId() or hasAnyRole('TEACHER', 'ADMIN'))")
     public ResponseEntity<Void> createUserCourse(
@@ -2,13 +2,16 @@ package com.training.studienplaner.user;
 
 import com.training.studienplaner.course.CourseMapper;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper(componentModel = "spring", uses = CourseMapper.class)
 public interface UserMapper {
 
     // DTO → Entity
+    @Mapping(target = "version", ignore = true)
     User toEntity(UserRequestDto dto);
 
     // Entity → Response DTO
@@ -17,5 +20,5 @@ public interface UserMapper {
     // Entity → Short DTO
     UserShortDto toShortDto(User user);
 
-    List<UserResponseDto> toResponseDto(List<User> users);
+    List<UserResponseDto> toResponseDto(Collection<User> users);
 }
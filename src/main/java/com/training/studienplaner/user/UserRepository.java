@@ -1,13 +1,54 @@
 package com.training.studienplaner.user;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // also used for authentication, which does not need the courses
     Optional<User> findByEmail(String email);
+
+    @EntityGraph(User.WITH_COURSES)
     List<User> findAllByRole(User.Role role);
+
+    @Override
+    @EntityGraph(User.WITH_COURSES)
+    Optional<User> findById(Long id);
+
+    @Override
+    @EntityGraph(User.WITH_COURSES)
+    List<User> findAll();
+
+    // one query over user_courses, assignment and the user's submission slot. The row comparison
+    // is the keyset condition and also covers the lower bound of the window; per course it is
+    // answered by a range scan on idx_assignment_course_deadline. A submission saved next to
+    // the generated placeholder would repeat the assignment and break the keyset, so only the
+    // latest submission of the user is joined
+    @Query("""
+            select new com.training.studienplaner.user.DeadlineDto(
+                a.assignmentId, a.title, a.type, a.deadline, c.courseId, c.title, s.submissionId, s.status, s.grade)
+            from User u
+            join u.coursesList c
+            join Assignment a on a.course = c
+            left join Submission s on s.submissionId = (
+                select max(latest.submissionId) from Submission latest
+                where latest.assignment = a and latest.student = u)
+            where u.userId = :userId
+              and (a.deadline, a.assignmentId) > (:afterDeadline, :afterAssignmentId)
+              and a.deadline < :to
+            order by a.deadline, a.assignmentId
+            """)
+    List<DeadlineDto> findDeadlines(@Param("userId") Long userId,
+                                    @Param("afterDeadline") LocalDateTime afterDeadline,
+                                    @Param("afterAssignmentId") Long afterAssignmentId,
+                                    @Param("to") LocalDateTime to,
+                                    Limit limit);
 }
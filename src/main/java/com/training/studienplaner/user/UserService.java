@@ -1,26 +1,44 @@
 package com.training.studienplaner.user;
 
-import com.training.studienplaner.course.Course;
+import com.training.studienplaner.auth.RefreshTokenService;
+import com.training.studienplaner.cache.EntityChangeEvent;
+import com.training.studienplaner.config.CacheConfig;
 import com.training.studienplaner.course.CourseMapper;
 import com.training.studienplaner.course.CourseResponseDto;
 import com.training.studienplaner.course.CourseRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    static final int MAX_DEADLINE_PAGE_SIZE = 200;
+    static final Duration DEFAULT_DEADLINE_WINDOW = Duration.ofDays(365);
+
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
     private final UserMapper userMapper;
     private final CourseMapper courseMapper;
+    private final UserCache userCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
 
     public UserResponseDto createUser(UserRequestDto userRequestDto) {
         User user = userMapper.toEntity(userRequestDto);
+        user.setPassword(passwordEncoder.encode(userRequestDto.password()));
         User saved = userRepository.save(user);
         return userMapper.toResponseDto(saved);
     }
@@ -29,13 +47,32 @@ public class UserService {
         return userMapper.toResponseDto(userRepository.findAll());
     }
 
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#id")
     public UserResponseDto getById(Long id) {
         return userMapper.toResponseDto(findUserById(id));
     }
 
+    // the revocation commits together with the delete or the role change, so a failed write
+    // keeps the sessions and a failed revocation keeps the old role
+    @Transactional
     public void deleteById(Long id) {
         User user = findUserById(id);
+        // access tokens carry the user in their claims and would stay usable until they expire
+        refreshTokenService.revokeSessions(id);
         userRepository.delete(user);
+        userCache.removeUserFromCache(user.getEmail());
+        eventPublisher.publishEvent(EntityChangeEvent.user(id));
+    }
+
+    @Transactional
+    public UserResponseDto changeRole(Long id, User.Role role) {
+        User user = findUserById(id);
+        user.setRole(role);
+        User saved = userRepository.save(user);
+        userCache.removeUserFromCache(saved.getEmail());
+        refreshTokenService.revokeSessions(id);
+        eventPublisher.publishEvent(EntityChangeEvent.user(id));
+        return userMapper.toResponseDto(saved);
     }
 
     public UserResponseDto findByEmail(String email) {
@@ -57,11 +94,48 @@ public class UserService {
         return courseMapper.toResponseDto(user.getCoursesList());
     }
 
+    // goes through the same set-based insert as the bulk enrollment, so the user's
+    // coursesList is never loaded; enrolling twice changes nothing
+    @Transactional
     public void enrollUserToCourse(Long userId, Long courseId) {
-        User user = findUserById(userId);
-        Course course = findCourseById(courseId);
-        user.getCoursesList().add(course);
-        userRepository.save(user);
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found");
+        }
+        if (!courseRepository.existsById(courseId)) {
+            throw new EntityNotFoundException("Course not found");
+        }
+        List<Long> userIds = List.of(userId);
+        courseRepository.incrementVersionOfNewStudents(courseId, userIds);
+        if (courseRepository.enrollUsers(courseId, userIds) > 0) {
+            eventPublisher.publishEvent(EntityChangeEvent.enrollment(userId, courseId));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public DeadlinePageDto getDeadlines(Long userId, LocalDateTime from, LocalDateTime to,
+                                        DeadlineCursor cursor, int limit) {
+        LocalDateTime windowStart = from != null ? from : LocalDateTime.now();
+        LocalDateTime windowEnd = to != null ? to : windowStart.plus(DEFAULT_DEADLINE_WINDOW);
+        if (!windowStart.isBefore(windowEnd)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        // without a cursor the page starts at (from, any id), which the keyset condition expresses as well
+        boolean resume = cursor != null && cursor.isPresent() && !cursor.afterDeadline().isBefore(windowStart);
+        LocalDateTime afterDeadline = resume ? cursor.afterDeadline() : windowStart;
+        Long afterAssignmentId = resume ? cursor.afterAssignmentId() : Long.MIN_VALUE;
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_DEADLINE_PAGE_SIZE));
+        List<DeadlineDto> deadlines = userRepository.findDeadlines(
+                userId, afterDeadline, afterAssignmentId, windowEnd, Limit.of(pageSize + 1));
+        if (deadlines.isEmpty() && !userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found");
+        }
+
+        boolean hasMore = deadlines.size() > pageSize;
+        List<DeadlineDto> page = hasMore ? deadlines.subList(0, pageSize) : deadlines;
+        DeadlineDto last = hasMore ? page.get(page.size() - 1) : null;
+        DeadlineCursor nextCursor = last != null ? new DeadlineCursor(last.deadline(), last.assignmentId()) : null;
+        return new DeadlinePageDto(page, nextCursor);
     }
 
     // === internal helpers ===
@@ -70,9 +144,4 @@ public class UserService {
         return userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
     }
-
-    private Course findCourseById(Long id) {
-        return courseRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Course not found"));
-    }
 }
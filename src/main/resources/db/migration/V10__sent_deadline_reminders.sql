@@ -0,0 +1,11 @@
+-- Deadline reminders already sent (DeadlineReminderService), so a restart of the scheduler
+-- neither repeats nor drops them.
+
+CREATE TABLE sent_deadline_reminder (
+    assignment_id BIGINT                      NOT NULL,
+    deadline      TIMESTAMP(6)                NOT NULL,
+    sent_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (assignment_id),
+    CONSTRAINT fk_sent_deadline_reminder_assignment
+        FOREIGN KEY (assignment_id) REFERENCES assignment ON DELETE CASCADE
+);
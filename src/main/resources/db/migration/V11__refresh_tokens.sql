@@ -0,0 +1,33 @@
+-- Rotating refresh tokens (RefreshTokenService) and revoked access tokens, which every
+-- replica mirrors in memory (TokenRevocationRegistry). Rows of revoked access tokens are
+-- deleted once the tokens have expired.
+
+CREATE TABLE refresh_token (
+    token_id          VARCHAR(36)                 NOT NULL,
+    token_hash        VARCHAR(64)                 NOT NULL,
+    family_id         VARCHAR(36)                 NOT NULL,
+    user_id           BIGINT                      NOT NULL,
+    created_at        TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at        TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    used_at           TIMESTAMP(6) WITH TIME ZONE,
+    revoked_at        TIMESTAMP(6) WITH TIME ZONE,
+    access_token_id   VARCHAR(36)                 NOT NULL,
+    access_expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (token_id),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_token_user
+        FOREIGN KEY (user_id) REFERENCES users ON DELETE CASCADE
+);
+
+CREATE INDEX idx_refresh_token_family ON refresh_token (family_id);
+CREATE INDEX idx_refresh_token_user ON refresh_token (user_id);
+
+CREATE TABLE revoked_access_token (
+    token_id   VARCHAR(36)                 NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (token_id)
+);
+
+CREATE INDEX idx_revoked_access_token_revoked_at ON revoked_access_token (revoked_at);
+CREATE INDEX idx_revoked_access_token_expires_at ON revoked_access_token (expires_at);
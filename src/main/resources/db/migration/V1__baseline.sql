@@ -0,0 +1,55 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE users (
+    user_id  BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email    VARCHAR(255) NOT NULL,
+    name     VARCHAR(30)  NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role     VARCHAR(255) NOT NULL CHECK (role IN ('ADMIN', 'STUDENT', 'TEACHER')),
+    surname  VARCHAR(50)  NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)
+);
+
+CREATE TABLE course (
+    course_id     BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    description   VARCHAR(255),
+    ects          SMALLINT,
+    title         VARCHAR(50) NOT NULL,
+    tutor_user_id BIGINT,
+    PRIMARY KEY (course_id),
+    CONSTRAINT fk7sds201kcvhkilgn27h7bo8uf FOREIGN KEY (tutor_user_id) REFERENCES users
+);
+
+CREATE TABLE assignment (
+    assignment_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    deadline      TIMESTAMP(6),
+    description   VARCHAR(255),
+    title         VARCHAR(50)  NOT NULL,
+    type          VARCHAR(255) NOT NULL
+        CHECK (type IN ('HOMEWORK', 'PROJECT', 'EXAM', 'TEST', 'PRESENTATION', 'ESSAY', 'LAB')),
+    course_id     BIGINT,
+    PRIMARY KEY (assignment_id),
+    CONSTRAINT fkrop26uwnbkstbtfha3ormxp85 FOREIGN KEY (course_id) REFERENCES course
+);
+
+CREATE TABLE submission (
+    submission_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    content       TEXT,
+    grade         FLOAT(53),
+    status        VARCHAR(255) NOT NULL CHECK (status IN ('NOT_SUBMITTED', 'SUBMITTED', 'REVIEWED', 'GRADED')),
+    submitted_at  TIMESTAMP(6),
+    assignment_id BIGINT       NOT NULL,
+    student_id    BIGINT       NOT NULL,
+    PRIMARY KEY (submission_id),
+    CONSTRAINT fk3q8643roa73llngo64dvpvtxt FOREIGN KEY (assignment_id) REFERENCES assignment,
+    CONSTRAINT fkjlg2bff2kbwi7yof7yc7fbokn FOREIGN KEY (student_id) REFERENCES users
+);
+
+CREATE TABLE user_courses (
+    user_id   BIGINT NOT NULL,
+    course_id BIGINT NOT NULL,
+    CONSTRAINT fk5i2mwg17kvpk92fy6cdii93da FOREIGN KEY (user_id) REFERENCES users,
+    CONSTRAINT fklqgnqmcg0mn2ci98xag6vxpdq FOREIGN KEY (course_id) REFERENCES course
+);
@@ -0,0 +1,19 @@
+-- Move primary keys from IDENTITY columns to sequences (allocationSize = 50, pooled-lo optimizer).
+-- Each sequence starts right after the highest existing id; the optimizer hands out
+-- [nextval, nextval + 49] in memory, so INCREMENT BY must match allocationSize.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE(MAX(user_id), 0) + 1, false) FROM users;
+ALTER TABLE users ALTER COLUMN user_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS course_seq INCREMENT BY 50;
+SELECT setval('course_seq', COALESCE(MAX(course_id), 0) + 1, false) FROM course;
+ALTER TABLE course ALTER COLUMN course_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS assignment_seq INCREMENT BY 50;
+SELECT setval('assignment_seq', COALESCE(MAX(assignment_id), 0) + 1, false) FROM assignment;
+ALTER TABLE assignment ALTER COLUMN assignment_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS submission_seq INCREMENT BY 50;
+SELECT setval('submission_seq', COALESCE(MAX(submission_id), 0) + 1, false) FROM submission;
+ALTER TABLE submission ALTER COLUMN submission_id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,15 @@
+-- Foreign-key and lookup indexes. IF NOT EXISTS because databases that ran with
+-- ddl-auto=update may already have the keyset indexes declared on Submission.
+-- (assignment_id, submission_id) also serves plain assignment_id lookups and the FK.
+
+CREATE INDEX IF NOT EXISTS idx_submission_status_id ON submission (status, submission_id);
+CREATE INDEX IF NOT EXISTS idx_submission_assignment_id ON submission (assignment_id, submission_id);
+CREATE INDEX IF NOT EXISTS idx_submission_student_id ON submission (student_id, submission_id);
+CREATE INDEX IF NOT EXISTS idx_submission_grade_id ON submission (grade, submission_id);
+CREATE INDEX IF NOT EXISTS idx_submission_student_status ON submission (student_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_users_role ON users (role);
+CREATE INDEX IF NOT EXISTS idx_user_courses_user ON user_courses (user_id);
+CREATE INDEX IF NOT EXISTS idx_user_courses_course ON user_courses (course_id);
+CREATE INDEX IF NOT EXISTS idx_course_tutor ON course (tutor_user_id);
+CREATE INDEX IF NOT EXISTS idx_assignment_course ON assignment (course_id);
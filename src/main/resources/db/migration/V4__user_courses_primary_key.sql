@@ -0,0 +1,12 @@
+-- Enrollments have set semantics now: drop duplicate rows left by the former bag mapping
+-- and make (user_id, course_id) the primary key. The key also covers lookups by user_id.
+
+DELETE FROM user_courses a
+    USING user_courses b
+WHERE a.ctid < b.ctid
+  AND a.user_id = b.user_id
+  AND a.course_id = b.course_id;
+
+ALTER TABLE user_courses ADD CONSTRAINT user_courses_pkey PRIMARY KEY (user_id, course_id);
+
+DROP INDEX IF EXISTS idx_user_courses_user;
@@ -0,0 +1,7 @@
+-- Version columns for optimistic locking and the ETags of the course endpoints.
+-- A course is versioned together with its assignments and roster, a user together
+-- with its enrollments, see CourseVersion.
+
+ALTER TABLE course ADD COLUMN version bigint NOT NULL DEFAULT 0;
+ALTER TABLE assignment ADD COLUMN version bigint NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN version bigint NOT NULL DEFAULT 0;
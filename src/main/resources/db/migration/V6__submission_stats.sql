@@ -0,0 +1,38 @@
+-- Per-assignment submission statistics, maintained incrementally by SubmissionStatsService.
+-- Both tables are backfilled from the existing submissions.
+
+CREATE TABLE assignment_submission_stats (
+    assignment_id BIGINT NOT NULL,
+    not_submitted BIGINT NOT NULL,
+    submitted     BIGINT NOT NULL,
+    reviewed      BIGINT NOT NULL,
+    graded        BIGINT NOT NULL,
+    PRIMARY KEY (assignment_id),
+    CONSTRAINT fk_assignment_submission_stats_assignment
+        FOREIGN KEY (assignment_id) REFERENCES assignment ON DELETE CASCADE
+);
+
+CREATE TABLE submission_grade_count (
+    assignment_id BIGINT    NOT NULL,
+    grade         FLOAT(53) NOT NULL,
+    submissions   BIGINT    NOT NULL,
+    PRIMARY KEY (assignment_id, grade),
+    CONSTRAINT fk_submission_grade_count_assignment
+        FOREIGN KEY (assignment_id) REFERENCES assignment ON DELETE CASCADE
+);
+
+INSERT INTO assignment_submission_stats (assignment_id, not_submitted, submitted, reviewed, graded)
+SELECT a.assignment_id,
+       count(s.submission_id) FILTER (WHERE s.status = 'NOT_SUBMITTED'),
+       count(s.submission_id) FILTER (WHERE s.status = 'SUBMITTED'),
+       count(s.submission_id) FILTER (WHERE s.status = 'REVIEWED'),
+       count(s.submission_id) FILTER (WHERE s.status = 'GRADED')
+FROM assignment a
+LEFT JOIN submission s ON s.assignment_id = a.assignment_id
+GROUP BY a.assignment_id;
+
+INSERT INTO submission_grade_count (assignment_id, grade, submissions)
+SELECT assignment_id, grade, count(*)
+FROM submission
+WHERE grade IS NOT NULL
+GROUP BY assignment_id, grade;
@@ -0,0 +1,9 @@
+-- Indexes behind GET /users/{id}/deadlines. Per enrolled course the deadlines window is a
+-- range scan in (deadline, assignment_id) order; the prefix also serves plain course_id lookups
+-- and the FK, so it replaces idx_assignment_course. The submission slot of the user is found
+-- by (student_id, assignment_id).
+
+CREATE INDEX IF NOT EXISTS idx_assignment_course_deadline ON assignment (course_id, deadline, assignment_id);
+DROP INDEX IF EXISTS idx_assignment_course;
+
+CREATE INDEX IF NOT EXISTS idx_submission_student_assignment ON submission (student_id, assignment_id);
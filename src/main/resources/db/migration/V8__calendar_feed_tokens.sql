@@ -0,0 +1,11 @@
+-- Secret calendar feed URLs (CalendarFeedTokenService), one rotatable token per user.
+
+CREATE TABLE calendar_feed_token (
+    user_id    BIGINT                      NOT NULL,
+    token_hash VARCHAR(64)                 NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_calendar_feed_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_calendar_feed_token_user
+        FOREIGN KEY (user_id) REFERENCES users ON DELETE CASCADE
+);
@@ -0,0 +1,3 @@
+-- The deadline reminder scheduler loads all upcoming deadlines with one range query at startup.
+
+CREATE INDEX IF NOT EXISTS idx_assignment_deadline ON assignment (deadline);
@@ -0,0 +1,320 @@
+package com.training.studienplaner;
+
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.assignment.AssignmentRepository;
+import com.training.studienplaner.config.CacheConfig;
+import com.training.studienplaner.course.Course;
+import com.training.studienplaner.course.CourseRepository;
+import com.training.studienplaner.submission.Submission;
+import com.training.studienplaner.submission.SubmissionRepository;
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-count;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ActiveProfiles("test")
+@WithMockUser(username = "admin@uni.de", roles = {"ADMIN"})
+class ReadEndpointStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long courseId;
+    private Long assignmentId;
+    private Long studentId;
+    private Long submissionId;
+
+    @BeforeAll
+    void setUp() {
+        User tutor = userRepository.save(user("tutor@uni.de", User.Role.TEACHER, new HashSet<>()));
+        List<Course> courses = IntStream.range(0, 3)
+                .mapToObj(i -> courseRepository.save(Course.builder()
+                        .title("Course " + i)
+                        .ects((short) 5)
+                        .tutor(tutor)
+                        .build()))
+                .toList();
+        courseId = courses.get(0).getCourseId();
+
+        List<Assignment> assignments = courses.stream()
+                .flatMap(course -> IntStream.range(0, 2).mapToObj(i -> assignmentRepository.save(Assignment.builder()
+                        .title(course.getTitle() + " / " + i)
+                        .type(Assignment.AssignmentType.HOMEWORK)
+                        .deadline(LocalDateTime.now().plusDays(7))
+                        .course(course)
+                        .build())))
+                .toList();
+        assignmentId = assignments.get(0).getAssignmentId();
+
+        List<User> students = IntStream.range(0, 5)
+                .mapToObj(i -> userRepository.save(user("student" + i + "@uni.de", User.Role.STUDENT,
+                        new HashSet<>(courses))))
+                .toList();
+        studentId = students.get(0).getUserId();
+
+        for (Assignment assignment : assignments) {
+            for (User student : students) {
+                Submission saved = submissionRepository.save(Submission.builder()
+                        .assignment(assignment)
+                        .student(student)
+                        .status(Submission.Status.SUBMITTED)
+                        .build());
+                if (submissionId == null) {
+                    submissionId = saved.getSubmissionId();
+                }
+            }
+        }
+    }
+
+    // every test starts cold, both for the DTO caches and for Hibernate's second-level cache
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private static User user(String email, User.Role role, Set<Course> courses) {
+        return User.builder()
+                .name("Test")
+                .surname(email)
+                .role(role)
+                .email(email)
+                .password("password")
+                .coursesList(courses)
+                .build();
+    }
+
+    private String etagOf(String url, Object... uriVariables) throws Exception {
+        return mockMvc.perform(get(url, uriVariables)).andReturn().getResponse().getHeader("ETag");
+    }
+
+    private long statementsFor(String url, Object... uriVariables) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get(url, uriVariables)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("GET /submissions/{id} soll Aufgaben und Kurse kalt gebündelt nachladen")
+    void getSubmissionById() throws Exception {
+        assertEquals(3, statementsFor("/submissions/{id}", submissionId));
+    }
+
+    @Test
+    @DisplayName("GET /submissions soll Aufgaben und Kurse kalt gebündelt nachladen")
+    void getAllSubmissions() throws Exception {
+        assertEquals(3, statementsFor("/submissions"));
+    }
+
+    @Test
+    @DisplayName("GET /submissions/page soll Aufgaben und Kurse kalt gebündelt nachladen")
+    void getSubmissionPage() throws Exception {
+        assertEquals(3, statementsFor("/submissions/page?limit=10"));
+    }
+
+    @Test
+    @DisplayName("GET /submissions/assignment/{id} soll Aufgaben und Kurse kalt gebündelt nachladen")
+    void getSubmissionsByAssignment() throws Exception {
+        assertEquals(3, statementsFor("/submissions/assignment/{id}", assignmentId));
+    }
+
+    @Test
+    @DisplayName("GET /submissions/user/{id} soll Aufgaben und Kurse kalt gebündelt nachladen")
+    void getSubmissionsByUser() throws Exception {
+        assertEquals(3, statementsFor("/submissions/user/{id}", studentId));
+    }
+
+    @Test
+    @DisplayName("GET /assignments soll mit einer Abfrage auskommen")
+    void getAllAssignments() throws Exception {
+        assertEquals(1, statementsFor("/assignments"));
+    }
+
+    @Test
+    @DisplayName("GET /assignments/{id} soll Version und Aufgabe mit je einer Abfrage laden")
+    void getAssignmentById() throws Exception {
+        assertEquals(2, statementsFor("/assignments/{id}", assignmentId));
+    }
+
+    @Test
+    @DisplayName("GET /courses soll mit einer Aggregatabfrage auskommen")
+    void getCourseSummaries() throws Exception {
+        assertEquals(1, statementsFor("/courses"));
+    }
+
+    @Test
+    @DisplayName("GET /courses?view=full soll Kurse und Teilnehmende in zwei Abfragen laden")
+    void getAllCoursesFull() throws Exception {
+        assertEquals(2, statementsFor("/courses?view=full"));
+    }
+
+    @Test
+    @DisplayName("GET /courses/{id} soll nach der Versionsabfrage Kurs und Teilnehmende in zwei Abfragen laden")
+    void getCourseById() throws Exception {
+        assertEquals(3, statementsFor("/courses/{id}", courseId));
+    }
+
+    @Test
+    @DisplayName("GET /courses/{id}/assignments soll Version und Aufgaben mit je einer Abfrage laden")
+    void getAssignmentsByCourse() throws Exception {
+        assertEquals(2, statementsFor("/courses/{id}/assignments", courseId));
+    }
+
+    @Test
+    @DisplayName("GET /courses/{id}/students soll Kurse der Teilnehmenden gebündelt nachladen")
+    void getStudentsByCourse() throws Exception {
+        assertEquals(4, statementsFor("/courses/{id}/students", courseId));
+    }
+
+    @Test
+    @DisplayName("GET /users/{id} soll mit einer Abfrage auskommen")
+    void getUserById() throws Exception {
+        assertEquals(1, statementsFor("/users/{id}", studentId));
+    }
+
+    @Test
+    @DisplayName("GET /users/students soll mit einer Abfrage auskommen")
+    void getStudents() throws Exception {
+        assertEquals(1, statementsFor("/users/students"));
+    }
+
+    @Test
+    @DisplayName("Wiederholtes GET /courses/{id} soll bis auf die Versionsabfrage aus dem Cache beantwortet werden")
+    void getCourseById_shouldBeServedFromCache() throws Exception {
+        statementsFor("/courses/{id}", courseId);
+
+        assertEquals(1, statementsFor("/courses/{id}", courseId));
+        assertTrue(meterRegistry.get("cache.gets")
+                .tags("cache", CacheConfig.COURSES, "result", "hit")
+                .functionCounter().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Wiederholtes GET /assignments/{id} und /users/{id} soll aus dem Cache beantwortet werden")
+    void getAssignmentAndUserById_shouldBeServedFromCache() throws Exception {
+        statementsFor("/assignments/{id}", assignmentId);
+        statementsFor("/users/{id}", studentId);
+
+        assertEquals(1, statementsFor("/assignments/{id}", assignmentId));
+        assertEquals(0, statementsFor("/users/{id}", studentId));
+    }
+
+    @Test
+    @DisplayName("Einschreibung soll Kurs- und Teilnehmer-ETags ändern und Kurs und Teilnehmende neu laden")
+    void enrollStudents_shouldEvictCourseAndUsers() throws Exception {
+        Long newStudentId = userRepository.save(user("new-student@uni.de", User.Role.STUDENT, new HashSet<>()))
+                .getUserId();
+        statementsFor("/courses/{id}", courseId);
+        statementsFor("/users/{id}", newStudentId);
+        String courseTag = etagOf("/courses/{id}", courseId);
+        String assignmentsTag = etagOf("/courses/{id}/assignments", courseId);
+        String studentsTag = etagOf("/courses/{id}/students", courseId);
+
+        mockMvc.perform(post("/courses/{id}/students", courseId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"studentIds\": [" + newStudentId + "]}"))
+                .andExpect(status().isOk());
+
+        assertEquals(3, statementsFor("/courses/{id}", courseId));
+        assertEquals(1, statementsFor("/users/{id}", newStudentId));
+        for (String url : List.of("/courses/{id}", "/courses/{id}/students")) {
+            mockMvc.perform(get(url, courseId).header("If-None-Match", courseTag, assignmentsTag, studentsTag))
+                    .andExpect(status().isOk());
+        }
+        // the assignment list does not contain the roster
+        mockMvc.perform(get("/courses/{id}/assignments", courseId).header("If-None-Match", assignmentsTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Wiederholte Abgabe-Lesezugriffe sollen assignment und course nicht mehr abfragen")
+    void submissionReads_shouldServeAssignmentAndCourseFromSecondLevelCache() throws Exception {
+        statementsFor("/submissions");
+
+        for (String url : List.of("/submissions", "/submissions/page?limit=10",
+                "/submissions/" + submissionId, "/submissions/assignment/" + assignmentId,
+                "/submissions/user/" + studentId)) {
+            assertEquals(1, statementsFor(url), url);
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            assertEquals(0, statistics.getEntityStatistics(Assignment.class.getName()).getLoadCount(), url);
+            assertEquals(0, statistics.getEntityStatistics(Course.class.getName()).getLoadCount(), url);
+            assertTrue(statistics.getDomainDataRegionStatistics("assignment").getHitCount() > 0, url);
+            assertTrue(statistics.getDomainDataRegionStatistics("course").getHitCount() > 0, url);
+        }
+    }
+
+    @Test
+    @DisplayName("Bedingte GETs auf unveränderte Kurse sollen mit 304 und nur der Versionsabfrage auskommen")
+    void conditionalGets_shouldReturnNotModifiedWithOneStatement() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String url : List.of("/courses/{id}", "/courses/{id}/assignments", "/courses/{id}/students")) {
+            String etag = etagOf(url, courseId);
+            statistics.clear();
+
+            mockMvc.perform(get(url, courseId).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified());
+
+            assertEquals(1, statistics.getPrepareStatementCount(), url);
+        }
+        String etag = etagOf("/assignments/{id}", assignmentId);
+        statistics.clear();
+        mockMvc.perform(get("/assignments/{id}", assignmentId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
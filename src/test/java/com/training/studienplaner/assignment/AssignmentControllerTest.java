@@ -1,6 +1,5 @@
 package com.training.studienplaner.assignment;
 
-import com.training.studienplaner.security.AuthorizationService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,9 +31,6 @@ class AssignmentControllerTest {
     @MockBean
     private AssignmentService assignmentService;
 
-    @MockBean(name = "authz")
-    AuthorizationService authz;
-
     @Test
     @DisplayName("TEACHER darf alle Assignments sehen")
     @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
@@ -48,7 +44,6 @@ class AssignmentControllerTest {
                 null
         );
 
-        when(authz.canAccessAny(any(), eq("TEACHER"), eq("STUDENT"))).thenReturn(true);
         when(assignmentService.getAllAssignments()).thenReturn(List.of(responseDto));
 
         mockMvc.perform(get("/assignments"))
@@ -73,7 +68,6 @@ class AssignmentControllerTest {
     @DisplayName("Soll 500 zurückgeben, wenn beim Abrufen der Assignments ein Fehler auftritt")
     @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
     void getAllAssignments_shouldReturnServerError_whenServiceFails() throws Exception {
-        when(authz.canAccessAny(any(), eq("TEACHER"), eq("STUDENT"))).thenReturn(true);
         when(assignmentService.getAllAssignments()).thenThrow(new RuntimeException("Service failure"));
 
         mockMvc.perform(get("/assignments"))
@@ -96,11 +90,12 @@ class AssignmentControllerTest {
                 null
         );
 
-        when(authz.canAccessAny(any(), eq("TEACHER"), eq("STUDENT"))).thenReturn(true);
+        when(assignmentService.getAssignmentVersion(id)).thenReturn(3L);
         when(assignmentService.getAssignmentById(id)).thenReturn(responseDto);
 
         mockMvc.perform(get("/assignments/" + id))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"a3\""))
                 .andExpect(jsonPath("$.assignmentId").value(id))
                 .andExpect(jsonPath("$.title").value("Test Assignment"));
 
@@ -113,15 +108,26 @@ class AssignmentControllerTest {
     void getAssignmentById_shouldReturnNotFound_whenAssignmentDoesNotExist() throws Exception {
         long id = 2L;
 
-        when(authz.canAccessAny(any(), eq("TEACHER"), eq("STUDENT"))).thenReturn(true);
-        when(assignmentService.getAssignmentById(id))
+        when(assignmentService.getAssignmentVersion(id))
                 .thenThrow(new EntityNotFoundException("Assignment not found"));
 
         mockMvc.perform(get("/assignments/" + id))
                 .andExpect(status().isNotFound())
                 .andExpect(content().string("Assignment not found"));
 
-        verify(assignmentService).getAssignmentById(id);
+        verify(assignmentService, never()).getAssignmentById(id);
+    }
+
+    @Test
+    @DisplayName("Unverändertes Assignment soll mit 304 beantwortet werden")
+    @WithMockUser(username = "student@uni.de", roles = {"STUDENT"})
+    void getAssignmentById_shouldReturnNotModified_whenEtagMatches() throws Exception {
+        when(assignmentService.getAssignmentVersion(2L)).thenReturn(3L);
+
+        mockMvc.perform(get("/assignments/2").header("If-None-Match", "\"a3\""))
+                .andExpect(status().isNotModified());
+
+        verify(assignmentService, never()).getAssignmentById(any());
     }
 
     @Test
@@ -145,7 +151,6 @@ class AssignmentControllerTest {
                 null
         );
 
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(assignmentService.createAssignment(any())).thenReturn(responseDto);
 
         mockMvc.perform(post("/assignments")
@@ -198,7 +203,6 @@ class AssignmentControllerTest {
                 1L
         );
 
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(assignmentService.createAssignment(any()))
                 .thenThrow(new EntityNotFoundException("Course not found"));
 
@@ -225,7 +229,6 @@ class AssignmentControllerTest {
     void deleteAssignment_shouldDeleteAssignment_andReturnNoContent_whenAuthorized() throws Exception {
         long id = 2L;
 
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         mockMvc.perform(delete("/assignments/" + id))
                 .andExpect(status().isNoContent());
 
@@ -248,7 +251,6 @@ class AssignmentControllerTest {
     void deleteAssignment_shouldReturnNotFound_whenAssignmentDoesNotExist() throws Exception {
         long id = 2L;
 
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         doThrow(new EntityNotFoundException("Assignment not found"))
                 .when(assignmentService).deleteAssignmentById(id);
 
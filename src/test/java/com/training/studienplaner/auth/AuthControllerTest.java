@@ -0,0 +1,111 @@
+package com.training.studienplaner.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthControllerTest {
+
+    private static final String BODY = "{\"email\": \"student@uni.de\", \"password\": \"geheim123\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LoginService loginService;
+
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+
+    @Test
+    @DisplayName("Login soll ohne Authentifizierung ein Token liefern")
+    void login_shouldReturnToken() throws Exception {
+        when(loginService.login(eq(new LoginRequestDto("student@uni.de", "geheim123")), any()))
+                .thenReturn(new TokenResponseDto("jwt", "Bearer", 3600, "refresh", 1_209_600));
+
+        mockMvc.perform(post("/api/auth/login").contentType("application/json").content(BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("jwt"))
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresIn").value(3600))
+                .andExpect(jsonPath("$.refreshToken").value("refresh"));
+    }
+
+    @Test
+    @DisplayName("Refresh soll ohne Authentifizierung ein neues Tokenpaar liefern")
+    void refresh_shouldReturnNewTokens() throws Exception {
+        when(refreshTokenService.refresh("alt"))
+                .thenReturn(new TokenResponseDto("jwt2", "Bearer", 900, "neu", 1_209_600));
+
+        mockMvc.perform(post("/api/auth/refresh").contentType("application/json").content("{\"refreshToken\": \"alt\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("jwt2"))
+                .andExpect(jsonPath("$.refreshToken").value("neu"));
+    }
+
+    @Test
+    @DisplayName("Ungültiges Refresh-Token soll 401 liefern")
+    void refresh_shouldReturnUnauthorized_whenTokenIsInvalid() throws Exception {
+        when(refreshTokenService.refresh(any())).thenThrow(new BadCredentialsException("Invalid refresh token"));
+
+        mockMvc.perform(post("/api/auth/refresh").contentType("application/json").content("{\"refreshToken\": \"alt\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Logout soll die Sitzung widerrufen und 204 liefern")
+    void logout_shouldRevokeSession() throws Exception {
+        mockMvc.perform(post("/api/auth/logout").contentType("application/json").content("{\"refreshToken\": \"alt\"}"))
+                .andExpect(status().isNoContent());
+
+        verify(refreshTokenService).logout("alt");
+    }
+
+    @Test
+    @DisplayName("Falsche Zugangsdaten sollen 401 liefern")
+    void login_shouldReturnUnauthorized_whenCredentialsAreWrong() throws Exception {
+        when(loginService.login(any(), any())).thenThrow(new BadCredentialsException("Invalid email or password"));
+
+        mockMvc.perform(post("/api/auth/login").contentType("application/json").content(BODY))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().string("Invalid email or password"));
+    }
+
+    @Test
+    @DisplayName("Gedrosselter Login soll 429 mit Retry-After liefern")
+    void login_shouldReturnTooManyRequests_whenThrottled() throws Exception {
+        when(loginService.login(any(), any())).thenThrow(new LoginThrottledException(Duration.ofSeconds(42)));
+
+        mockMvc.perform(post("/api/auth/login").contentType("application/json").content(BODY))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "42"));
+    }
+
+    @Test
+    @DisplayName("Überlastete Passwortprüfung soll 503 mit Retry-After liefern")
+    void login_shouldReturnServiceUnavailable_whenVerificationPoolIsFull() throws Exception {
+        when(loginService.login(any(), any())).thenThrow(new LoginUnavailableException(Duration.ofSeconds(1)));
+
+        mockMvc.perform(post("/api/auth/login").contentType("application/json").content(BODY))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+}
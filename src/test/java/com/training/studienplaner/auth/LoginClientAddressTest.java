@@ -0,0 +1,64 @@
+package com.training.studienplaner.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+// runs against the embedded Tomcat, MockMvc would bypass the RemoteIpValve
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class LoginClientAddressTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private LoginRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        // a throttled login answers before the password check
+        doThrow(new LoginThrottledException(Duration.ofSeconds(1))).when(rateLimiter).acquire(any(), any());
+    }
+
+    @Test
+    @DisplayName("Login-Drossel soll die weitergeleitete Client-Adresse des Proxys verwenden")
+    void login_shouldThrottleByForwardedClientAddress() {
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, restTemplate.postForEntity(
+                "/api/auth/login", login("203.0.113.7, 10.0.0.5"), String.class).getStatusCode());
+
+        verify(rateLimiter).acquire("student@uni.de", "203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("Vom Client gefälschte Adressen vor dem letzten Proxy sollen ignoriert werden")
+    void login_shouldIgnoreAddressesSpoofedByTheClient() {
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, restTemplate.postForEntity(
+                "/api/auth/login", login("198.51.100.1, 203.0.113.7"), String.class).getStatusCode());
+
+        verify(rateLimiter).acquire("student@uni.de", "203.0.113.7");
+    }
+
+    private static HttpEntity<String> login(String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", forwardedFor);
+        return new HttpEntity<>("{\"email\": \"student@uni.de\", \"password\": \"geheim123\"}", headers);
+    }
+}
@@ -0,0 +1,53 @@
+package com.training.studienplaner.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final LoginRateLimiter rateLimiter = new LoginRateLimiter(
+            new LoginRateLimiter.Limit(2, Duration.ofMinutes(1)),
+            new LoginRateLimiter.Limit(3, Duration.ofSeconds(10)),
+            1000, nanos::get);
+
+    @Test
+    @DisplayName("Zu viele Versuche für ein Konto sollen mit Wartezeit abgelehnt werden")
+    void acquire_shouldThrottlePerAccount() {
+        rateLimiter.acquire("a@uni.de", "10.0.0.1");
+        rateLimiter.acquire("A@uni.de", "10.0.0.2");
+
+        LoginThrottledException exception = assertThrows(LoginThrottledException.class,
+                () -> rateLimiter.acquire("a@uni.de", "10.0.0.3"));
+        assertEquals(Duration.ofSeconds(60), exception.getRetryAfter());
+
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertDoesNotThrow(() -> rateLimiter.acquire("a@uni.de", "10.0.0.3"));
+    }
+
+    @Test
+    @DisplayName("Zu viele Versuche von einer Adresse sollen unabhängig vom Konto abgelehnt werden")
+    void acquire_shouldThrottlePerIp() {
+        rateLimiter.acquire("a@uni.de", "10.0.0.1");
+        rateLimiter.acquire("b@uni.de", "10.0.0.1");
+        rateLimiter.acquire("c@uni.de", "10.0.0.1");
+
+        assertThrows(LoginThrottledException.class, () -> rateLimiter.acquire("d@uni.de", "10.0.0.1"));
+        assertDoesNotThrow(() -> rateLimiter.acquire("d@uni.de", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("Abgelehnter Kontoversuch soll das Token der Adresse nicht verbrauchen")
+    void acquire_shouldRefundIpTokenWhenAccountIsThrottled() {
+        rateLimiter.acquire("a@uni.de", "10.0.0.1");
+        rateLimiter.acquire("a@uni.de", "10.0.0.1");
+        assertThrows(LoginThrottledException.class, () -> rateLimiter.acquire("a@uni.de", "10.0.0.1"));
+
+        assertDoesNotThrow(() -> rateLimiter.acquire("b@uni.de", "10.0.0.1"));
+    }
+}
@@ -0,0 +1,137 @@
+package com.training.studienplaner.auth;
+
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginServiceTest {
+
+    // low cost factor, the tests are about the flow and not about BCrypt
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordVerificationPool verificationPool =
+            new PasswordVerificationPool(1, 4, Duration.ofSeconds(5), meterRegistry);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LoginRateLimiter rateLimiter;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private UserCache userCache;
+
+    private LoginService loginService;
+
+    @BeforeEach
+    void setUp() {
+        loginService = new LoginService(userRepository, passwordEncoder, verificationPool, rateLimiter,
+                refreshTokenService, userCache, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        verificationPool.destroy();
+    }
+
+    @Test
+    @DisplayName("Richtiges Passwort soll Access- und Refresh-Token liefern")
+    void login_shouldReturnToken_whenPasswordMatches() {
+        User user = user(passwordEncoder.encode("geheim123"));
+        when(userRepository.findByEmail("student@uni.de")).thenReturn(Optional.of(user));
+        TokenResponseDto tokens = new TokenResponseDto("jwt", "Bearer", 900, "refresh", 1_209_600);
+        when(refreshTokenService.issue(user)).thenReturn(tokens);
+
+        TokenResponseDto response = loginService.login(new LoginRequestDto(" student@uni.de ", "geheim123"), "10.0.0.1");
+
+        assertEquals(tokens, response);
+        verify(rateLimiter).acquire("student@uni.de", "10.0.0.1");
+        verify(userRepository, never()).save(any());
+        assertEquals(1, meterRegistry.get("auth.login").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Falsches Passwort soll mit BadCredentialsException abgelehnt werden")
+    void login_shouldRejectWrongPassword() {
+        when(userRepository.findByEmail("student@uni.de"))
+                .thenReturn(Optional.of(user(passwordEncoder.encode("geheim123"))));
+
+        assertThrows(BadCredentialsException.class,
+                () -> loginService.login(new LoginRequestDto("student@uni.de", "falsch"), "10.0.0.1"));
+        verifyNoInteractions(refreshTokenService);
+        assertEquals(1, meterRegistry.get("auth.login").tag("outcome", "bad_credentials").timer().count());
+    }
+
+    @Test
+    @DisplayName("Unbekannte E-Mail soll wie ein falsches Passwort behandelt werden")
+    void login_shouldRejectUnknownEmail() {
+        when(userRepository.findByEmail("niemand@uni.de")).thenReturn(Optional.empty());
+
+        BadCredentialsException exception = assertThrows(BadCredentialsException.class,
+                () -> loginService.login(new LoginRequestDto("niemand@uni.de", "geheim123"), "10.0.0.1"));
+        assertEquals("Invalid email or password", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Klartext-Passwort aus Altbestand soll beim Login gehasht werden")
+    void login_shouldHashLegacyPlainTextPassword() {
+        User user = user("geheim123");
+        when(userRepository.findByEmail("student@uni.de")).thenReturn(Optional.of(user));
+
+        loginService.login(new LoginRequestDto("student@uni.de", "geheim123"), "10.0.0.1");
+
+        assertTrue(passwordEncoder.matches("geheim123", user.getPassword()));
+        verify(userRepository).save(user);
+        verify(userCache).removeUserFromCache("student@uni.de");
+    }
+
+    @Test
+    @DisplayName("Gedrosselter Versuch soll ohne Datenbankzugriff abgelehnt werden")
+    void login_shouldNotTouchRepository_whenThrottled() {
+        doThrow(new LoginThrottledException(Duration.ofSeconds(30))).when(rateLimiter).acquire(any(), any());
+
+        assertThrows(LoginThrottledException.class,
+                () -> loginService.login(new LoginRequestDto("student@uni.de", "geheim123"), "10.0.0.1"));
+        verifyNoInteractions(userRepository);
+        assertEquals(1, meterRegistry.get("auth.login").tag("outcome", "throttled").timer().count());
+    }
+
+    @Test
+    @DisplayName("Fehlende Zugangsdaten sollen abgelehnt werden")
+    void login_shouldRejectMissingCredentials() {
+        assertThrows(IllegalArgumentException.class,
+                () -> loginService.login(new LoginRequestDto("student@uni.de", " "), "10.0.0.1"));
+        verifyNoInteractions(rateLimiter);
+    }
+
+    private static User user(String password) {
+        return User.builder()
+                .userId(1L)
+                .email("student@uni.de")
+                .password(password)
+                .role(User.Role.STUDENT)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.training.studienplaner.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordVerificationPoolTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final PasswordVerificationPool pool =
+            new PasswordVerificationPool(1, 1, Duration.ofMillis(200), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.destroy();
+    }
+
+    @Test
+    @DisplayName("Ergebnis der Prüfung soll an den Aufrufer zurückgegeben werden")
+    void verify_shouldReturnResult() {
+        assertEquals("ok", pool.verify(() -> "ok"));
+    }
+
+    @Test
+    @DisplayName("Volle Warteschlange soll sofort mit LoginUnavailableException abgelehnt werden")
+    void verify_shouldRejectWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> pool.verify(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> pool.verify(() -> release.await(5, TimeUnit.SECONDS)));
+        Thread.sleep(50);
+
+        assertThrows(LoginUnavailableException.class, () -> pool.verify(() -> "third"));
+    }
+
+    @Test
+    @DisplayName("Zu lange Prüfung soll nach dem Timeout abgebrochen werden")
+    void verify_shouldGiveUpAfterTimeout() {
+        assertThrows(LoginUnavailableException.class,
+                () -> pool.verify(() -> release.await(5, TimeUnit.SECONDS)));
+    }
+}
@@ -0,0 +1,177 @@
+package com.training.studienplaner.auth;
+
+import com.training.studienplaner.security.JwtUtils;
+import com.training.studienplaner.security.RevokedAccessTokenRepository;
+import com.training.studienplaner.security.TokenRevocationRegistry;
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private JwtUtils jwtUtils;
+    private TokenRevocationRegistry revocationRegistry;
+    private RefreshTokenService refreshTokenService;
+    private User student;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "secret", "as78df79wefhw94yf98w4f8hwef8h2f98wefh2uwhf923hf");
+        ReflectionTestUtils.setField(jwtUtils, "expiration", 900_000L);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheSize", 0L);
+        jwtUtils.init();
+        revocationRegistry = new TokenRevocationRegistry(revokedAccessTokenRepository, Duration.ofSeconds(5), 1000);
+        refreshTokenService = service(Duration.ofDays(14));
+        student = userRepository.save(User.builder()
+                .name("Anna")
+                .surname("Schmidt")
+                .email("anna@uni.de")
+                .password("geheim")
+                .role(User.Role.STUDENT)
+                .build());
+    }
+
+    // some tests commit the test transaction, so their rows are removed explicitly
+    @AfterEach
+    void tearDown() {
+        if (!TestTransaction.isActive()) {
+            TestTransaction.start();
+        }
+        refreshTokenRepository.deleteAll();
+        revokedAccessTokenRepository.deleteAll();
+        userRepository.deleteById(student.getUserId());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+    }
+
+    @Test
+    @DisplayName("Refresh soll ein neues Tokenpaar liefern und das alte Refresh-Token verbrauchen")
+    void refresh_shouldRotateTokens() {
+        TokenResponseDto login = refreshTokenService.issue(student);
+
+        TokenResponseDto refreshed = refreshTokenService.refresh(login.refreshToken());
+
+        assertNotEquals(login.refreshToken(), refreshed.refreshToken());
+        assertNotEquals(tokenId(login), tokenId(refreshed));
+        assertEquals(900, refreshed.expiresIn());
+        assertEquals(Duration.ofDays(14).toSeconds(), refreshed.refreshExpiresIn());
+        assertEquals(2, refreshTokenRepository.findByUserId(student.getUserId()).size());
+        assertFalse(revocationRegistry.isRevoked(tokenId(login)));
+    }
+
+    @Test
+    @DisplayName("Wiederverwendetes Refresh-Token soll die ganze Familie widerrufen")
+    void refresh_shouldRevokeFamily_whenTokenIsReused() {
+        TokenResponseDto login = refreshTokenService.issue(student);
+        TokenResponseDto refreshed = refreshTokenService.refresh(login.refreshToken());
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(login.refreshToken()));
+        commit();
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(refreshed.refreshToken()));
+        assertTrue(revocationRegistry.isRevoked(tokenId(login)));
+        assertTrue(revocationRegistry.isRevoked(tokenId(refreshed)));
+        assertEquals(2, revokedAccessTokenRepository.count());
+    }
+
+    @Test
+    @DisplayName("Logout soll Refresh- und Access-Token widerrufen, andere Sitzungen aber nicht")
+    void logout_shouldRevokeOnlyItsFamily() {
+        TokenResponseDto phone = refreshTokenService.issue(student);
+        TokenResponseDto laptop = refreshTokenService.issue(student);
+
+        refreshTokenService.logout(phone.refreshToken());
+        commit();
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(phone.refreshToken()));
+        assertTrue(revocationRegistry.isRevoked(tokenId(phone)));
+        assertFalse(revocationRegistry.isRevoked(tokenId(laptop)));
+        assertNotNull(refreshTokenService.refresh(laptop.refreshToken()));
+    }
+
+    @Test
+    @DisplayName("Widerruf aller Sitzungen soll jedes Access-Token des Benutzers sperren")
+    void revokeSessions_shouldRevokeEveryFamilyOfUser() {
+        TokenResponseDto phone = refreshTokenService.issue(student);
+        TokenResponseDto laptop = refreshTokenService.issue(student);
+
+        refreshTokenService.revokeSessions(student.getUserId());
+        commit();
+
+        assertTrue(revocationRegistry.isRevoked(tokenId(phone)));
+        assertTrue(revocationRegistry.isRevoked(tokenId(laptop)));
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(laptop.refreshToken()));
+    }
+
+    @Test
+    @DisplayName("Widerruf soll erst nach dem Commit im Speicher gelten und bei Rollback verworfen werden")
+    void revokeSessions_shouldApplyRevocationOnlyAfterCommit() {
+        TokenResponseDto login = refreshTokenService.issue(student);
+        commit();
+
+        refreshTokenService.revokeSessions(student.getUserId());
+        assertFalse(revocationRegistry.isRevoked(tokenId(login)));
+        TestTransaction.end();
+
+        assertFalse(revocationRegistry.isRevoked(tokenId(login)));
+        assertEquals(0, revokedAccessTokenRepository.count());
+
+        TestTransaction.start();
+        refreshTokenService.revokeSessions(student.getUserId());
+        assertFalse(revocationRegistry.isRevoked(tokenId(login)));
+        commit();
+
+        assertTrue(revocationRegistry.isRevoked(tokenId(login)));
+    }
+
+    @Test
+    @DisplayName("Abgelaufenes oder unbekanntes Refresh-Token soll abgelehnt werden")
+    void refresh_shouldRejectExpiredAndUnknownTokens() {
+        TokenResponseDto login = service(Duration.ZERO).issue(student);
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(login.refreshToken()));
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh("unbekannt"));
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(null));
+    }
+
+    private RefreshTokenService service(Duration refreshExpiration) {
+        return new RefreshTokenService(refreshTokenRepository, revokedAccessTokenRepository, revocationRegistry,
+                userRepository, jwtUtils, refreshExpiration, Clock.systemUTC());
+    }
+
+    private void commit() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+    }
+
+    private String tokenId(TokenResponseDto tokens) {
+        return jwtUtils.getClaimsFromToken(tokens.token()).getId();
+    }
+}
@@ -0,0 +1,59 @@
+package com.training.studienplaner.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostgresCacheInvalidationBusTest {
+
+    private ReadModelCacheInvalidator invalidator;
+    private ApplicationEventPublisher eventPublisher;
+    private PostgresCacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        invalidator = mock(ReadModelCacheInvalidator.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        bus = new PostgresCacheInvalidationBus(invalidator, eventPublisher, mock(JdbcTemplate.class),
+                mock(JdbcConnectionDetails.class), "read_model_invalidation", Duration.ofSeconds(1), Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Änderung einer anderen Instanz soll bereinigt und als ReplicatedEntityChangeEvent weitergereicht werden")
+    void onNotification_shouldEvictAndRelayRemoteChange() {
+        bus.onNotification("other-node|ASSIGNMENT:5:1");
+
+        verify(invalidator).evictReplicated(EntityChangeEvent.assignment(5L, 1L));
+        verify(eventPublisher).publishEvent(new ReplicatedEntityChangeEvent(EntityChangeEvent.assignment(5L, 1L)));
+    }
+
+    @Test
+    @DisplayName("Eigene und fehlerhafte Nachrichten sollen ignoriert werden")
+    void onNotification_shouldIgnoreOwnAndMalformedPayloads() {
+        bus.onNotification(ReflectionTestUtils.getField(bus, "nodeId") + "|ASSIGNMENT:5:1");
+        bus.onNotification("other-node|COURSE:1");
+
+        verifyNoInteractions(invalidator);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Fehler eines Listeners soll den Empfang nicht beenden")
+    void onNotification_shouldSurviveFailingListener() {
+        doThrow(new IllegalStateException("boom")).when(eventPublisher).publishEvent(any(Object.class));
+
+        bus.onNotification("other-node|ASSIGNMENT:5:1");
+        bus.onNotification("other-node|ASSIGNMENT:6:1");
+
+        verify(invalidator).evictReplicated(EntityChangeEvent.assignment(6L, 1L));
+    }
+}
@@ -0,0 +1,105 @@
+package com.training.studienplaner.cache;
+
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.config.CacheConfig;
+import com.training.studienplaner.course.Course;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadModelCacheInvalidatorTest {
+
+    private CacheManager cacheManager;
+    private Cache secondLevelCache;
+    private ReadModelCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CacheConfig().cacheManager(100, Duration.ofMinutes(1));
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        secondLevelCache = mock(Cache.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        invalidator = new ReadModelCacheInvalidator(cacheManager, entityManagerFactory);
+        for (String name : cacheManager.getCacheNames()) {
+            cacheManager.getCache(name).put(1L, name + "-1");
+            cacheManager.getCache(name).put(2L, name + "-2");
+        }
+    }
+
+    private boolean cached(String cacheName, Long key) {
+        return cacheManager.getCache(cacheName).get(key) != null;
+    }
+
+    @Test
+    @DisplayName("Geänderte Aufgabe soll nur ihren eigenen Eintrag entfernen")
+    void evict_assignment_shouldEvictOnlyTheAssignment() {
+        invalidator.evict(EntityChangeEvent.assignment(1L, 2L));
+
+        assertFalse(cached(CacheConfig.ASSIGNMENTS, 1L));
+        assertTrue(cached(CacheConfig.ASSIGNMENTS, 2L));
+        // course responses are keyed by version and need no eviction
+        assertTrue(cached(CacheConfig.COURSES, 2L));
+        assertTrue(cached(CacheConfig.USERS, 1L));
+    }
+
+    @Test
+    @DisplayName("Masseneinschreibung soll alle Nutzer entfernen")
+    void evict_bulkEnrollment_shouldClearUsers() {
+        invalidator.evict(EntityChangeEvent.enrollment(null, 1L));
+
+        assertTrue(cached(CacheConfig.COURSES, 1L));
+        assertFalse(cached(CacheConfig.USERS, 1L));
+        assertFalse(cached(CacheConfig.USERS, 2L));
+    }
+
+    @Test
+    @DisplayName("Gelöschter Kurs soll Aufgaben und Nutzer vollständig entfernen")
+    void evict_course_shouldClearEmbeddingCaches() {
+        invalidator.evict(EntityChangeEvent.course(1L));
+
+        assertFalse(cached(CacheConfig.ASSIGNMENTS, 2L));
+        assertFalse(cached(CacheConfig.USERS, 2L));
+    }
+
+    @Test
+    @DisplayName("Abgaben sollen keinen Cache-Eintrag entfernen")
+    void evict_submission_shouldKeepEntries() {
+        invalidator.evict(EntityChangeEvent.submission(1L, 1L));
+
+        for (String name : cacheManager.getCacheNames()) {
+            assertTrue(cached(name, 1L));
+        }
+    }
+
+    @Test
+    @DisplayName("Änderung einer anderen Instanz soll auch den Second-Level-Cache bereinigen")
+    void evictReplicated_assignment_shouldEvictSecondLevelCache() {
+        invalidator.evictReplicated(EntityChangeEvent.assignment(1L, 2L));
+
+        assertFalse(cached(CacheConfig.ASSIGNMENTS, 1L));
+        verify(secondLevelCache).evictEntityData(Assignment.class, 1L);
+        verify(secondLevelCache).evictCollectionData(Course.class.getName() + ".assignments", 2L);
+        verify(secondLevelCache).evictQueryRegions();
+    }
+
+    @Test
+    @DisplayName("Ereignis soll über die NOTIFY-Nutzlast unverändert übertragen werden")
+    void payload_shouldRoundTrip() {
+        EntityChangeEvent event = EntityChangeEvent.enrollment(null, 7L);
+
+        assertEquals("ENROLLMENT::7", event.toPayload());
+        assertEquals(event, EntityChangeEvent.fromPayload(event.toPayload()));
+        assertThrows(IllegalArgumentException.class, () -> EntityChangeEvent.fromPayload("COURSE:1"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.training.studienplaner.calendar;
+
+import com.training.studienplaner.security.CustomUserDetails;
+import com.training.studienplaner.user.User;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CalendarControllerTest {
+
+    private static final CalendarFeedVersion VERSION =
+            new CalendarFeedVersion(1L, List.of(new CalendarCourseVersion(3L, 2L, 1L, 4L, 5L)));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CalendarFeedService calendarFeedService;
+
+    @MockBean
+    private CalendarFeedTokenService calendarFeedTokenService;
+
+    @Test
+    @DisplayName("STUDENT soll den eigenen Kalender als ICS mit ETag erhalten")
+    void getUserCalendar_shouldReturnFeedWithEtag() throws Exception {
+        when(calendarFeedService.getFeedVersion(1L)).thenReturn(VERSION);
+        when(calendarFeedService.renderFeed(VERSION)).thenReturn("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n");
+
+        mockMvc.perform(get("/users/1/calendar.ics").with(user(student(1L))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", VERSION.tag()))
+                .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                .andExpect(content().string("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n"));
+    }
+
+    @Test
+    @DisplayName("Unveränderter Kalender soll mit 304 beantwortet werden, ohne ihn zu erzeugen")
+    void getUserCalendar_shouldReturnNotModified_whenEtagMatches() throws Exception {
+        when(calendarFeedService.getFeedVersion(1L)).thenReturn(VERSION);
+
+        mockMvc.perform(get("/users/1/calendar.ics")
+                        .header("If-None-Match", VERSION.tag())
+                        .with(user(student(1L))))
+                .andExpect(status().isNotModified());
+
+        verify(calendarFeedService, never()).renderFeed(any());
+    }
+
+    @Test
+    @DisplayName("STUDENT darf keinen fremden Kalender abrufen")
+    @WithMockUser(username = "student@uni.de", roles = {"STUDENT"})
+    void getUserCalendar_shouldReturnForbidden_whenStudentAccessesOtherUser() throws Exception {
+        mockMvc.perform(get("/users/1/calendar.ics"))
+                .andExpect(status().isForbidden());
+
+        verify(calendarFeedService, never()).getFeedVersion(any());
+    }
+
+    @Test
+    @DisplayName("Kalender soll über den Feed-Token ohne Anmeldung abrufbar sein")
+    void getCalendarByFeedToken_shouldReturnFeedWithoutAuthentication() throws Exception {
+        when(calendarFeedTokenService.findUserId("geheim")).thenReturn(1L);
+        when(calendarFeedService.getFeedVersion(1L)).thenReturn(VERSION);
+        when(calendarFeedService.renderFeed(VERSION)).thenReturn("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n");
+
+        mockMvc.perform(get("/calendar/geheim.ics"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", VERSION.tag()))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(content().string("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n"));
+    }
+
+    @Test
+    @DisplayName("Unbekannter Feed-Token soll mit 404 beantwortet werden")
+    void getCalendarByFeedToken_shouldReturnNotFound_whenTokenIsUnknown() throws Exception {
+        when(calendarFeedTokenService.findUserId("alt")).thenThrow(new EntityNotFoundException("Calendar feed not found"));
+
+        mockMvc.perform(get("/calendar/alt.ics"))
+                .andExpect(status().isNotFound());
+
+        verify(calendarFeedService, never()).getFeedVersion(any());
+    }
+
+    @Test
+    @DisplayName("STUDENT soll den eigenen Feed-Token erneuern und widerrufen können")
+    void feedToken_shouldBeRotatedAndRevokedByOwner() throws Exception {
+        when(calendarFeedTokenService.rotate(1L)).thenReturn(new CalendarFeedTokenDto("neu", "/calendar/neu.ics"));
+
+        mockMvc.perform(post("/users/1/calendar-token").with(user(student(1L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("neu"))
+                .andExpect(jsonPath("$.feedPath").value("/calendar/neu.ics"));
+        mockMvc.perform(delete("/users/1/calendar-token").with(user(student(1L))))
+                .andExpect(status().isNoContent());
+
+        verify(calendarFeedTokenService).revoke(1L);
+    }
+
+    @Test
+    @DisplayName("STUDENT darf keinen fremden Feed-Token erzeugen")
+    void rotateFeedToken_shouldReturnForbidden_whenStudentAccessesOtherUser() throws Exception {
+        mockMvc.perform(post("/users/2/calendar-token").with(user(student(1L))))
+                .andExpect(status().isForbidden());
+
+        verify(calendarFeedTokenService, never()).rotate(any());
+    }
+
+    private static CustomUserDetails student(Long id) {
+        return new CustomUserDetails(User.builder()
+                .userId(id)
+                .email("student@uni.de")
+                .password("dummy")
+                .role(User.Role.STUDENT)
+                .build());
+    }
+}
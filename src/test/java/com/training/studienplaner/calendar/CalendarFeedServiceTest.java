@@ -0,0 +1,101 @@
+package com.training.studienplaner.calendar;
+
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.assignment.AssignmentRepository;
+import com.training.studienplaner.course.Course;
+import com.training.studienplaner.course.CourseRepository;
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CalendarFeedService.class, CourseCalendarService.class})
+class CalendarFeedServiceTest {
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Test
+    @DisplayName("Feed soll die Fristen aller belegten Kurse enthalten")
+    void renderFeed_shouldContainDeadlinesOfEnrolledCourses() {
+        Course math = courseRepository.save(Course.builder().title("Mathe").build());
+        Course other = courseRepository.save(Course.builder().title("Chemie").build());
+        User student = saveStudent(math);
+        Assignment sheet = saveAssignment("Blatt 1", math, LocalDateTime.of(2025, 3, 1, 12, 0));
+        saveAssignment("Ohne Frist", math, null);
+        saveAssignment("Fremd", other, LocalDateTime.of(2025, 3, 2, 12, 0));
+
+        String feed = calendarFeedService.renderFeed(calendarFeedService.getFeedVersion(student.getUserId()));
+
+        assertTrue(feed.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(feed.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(feed.contains("UID:assignment-" + sheet.getAssignmentId() + "@studienplaner"));
+        assertTrue(feed.contains("SUMMARY:Mathe: Blatt 1"));
+        assertFalse(feed.contains("Ohne Frist"));
+        assertFalse(feed.contains("Fremd"));
+    }
+
+    @Test
+    @DisplayName("Tag soll sich nur ändern, wenn sich eine Aufgabe eines belegten Kurses ändert")
+    void getFeedVersion_shouldChangeTagWhenAssignmentChanges() {
+        Course math = courseRepository.save(Course.builder().title("Mathe").build());
+        User student = saveStudent(math);
+        Assignment sheet = saveAssignment("Blatt 1", math, LocalDateTime.of(2025, 3, 1, 12, 0));
+        String before = calendarFeedService.getFeedVersion(student.getUserId()).tag();
+
+        assertEquals(before, calendarFeedService.getFeedVersion(student.getUserId()).tag());
+
+        sheet.setDeadline(sheet.getDeadline().plusDays(1));
+        assignmentRepository.saveAndFlush(sheet);
+
+        assertNotEquals(before, calendarFeedService.getFeedVersion(student.getUserId()).tag());
+    }
+
+    @Test
+    @DisplayName("Unbekannter Benutzer soll zu einer Ausnahme führen")
+    void getFeedVersion_shouldThrowException_whenUserNotFound() {
+        assertThrows(EntityNotFoundException.class, () -> calendarFeedService.getFeedVersion(999L));
+    }
+
+    private User saveStudent(Course... courses) {
+        return userRepository.save(User.builder()
+                .name("Student")
+                .surname("Test")
+                .role(User.Role.STUDENT)
+                .email("calendar@example.com")
+                .password("password")
+                .coursesList(new HashSet<>(List.of(courses)))
+                .build());
+    }
+
+    private Assignment saveAssignment(String title, Course course, LocalDateTime deadline) {
+        return assignmentRepository.saveAndFlush(Assignment.builder()
+                .title(title)
+                .type(Assignment.AssignmentType.HOMEWORK)
+                .deadline(deadline)
+                .course(course)
+                .build());
+    }
+}
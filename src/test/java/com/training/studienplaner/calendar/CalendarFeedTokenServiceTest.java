@@ -0,0 +1,71 @@
+package com.training.studienplaner.calendar;
+
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CalendarFeedTokenServiceTest {
+
+    @Autowired
+    private CalendarFeedTokenRepository feedTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private CalendarFeedTokenService feedTokenService;
+    private User student;
+
+    @BeforeEach
+    void setUp() {
+        feedTokenService = new CalendarFeedTokenService(feedTokenRepository, userRepository);
+        student = userRepository.save(User.builder()
+                .name("Anna")
+                .surname("Schmidt")
+                .email("anna@uni.de")
+                .password("geheim")
+                .role(User.Role.STUDENT)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Erneuerter Feed-Token soll den bisherigen ersetzen")
+    void rotate_shouldReplacePreviousToken() {
+        CalendarFeedTokenDto first = feedTokenService.rotate(student.getUserId());
+        CalendarFeedTokenDto second = feedTokenService.rotate(student.getUserId());
+        feedTokenRepository.flush();
+
+        assertNotEquals(first.token(), second.token());
+        assertEquals("/calendar/" + second.token() + ".ics", second.feedPath());
+        assertEquals(student.getUserId(), feedTokenService.findUserId(second.token()));
+        assertThrows(EntityNotFoundException.class, () -> feedTokenService.findUserId(first.token()));
+        assertEquals(1, feedTokenRepository.count());
+        // only the hash is stored
+        assertNotEquals(second.token(), feedTokenRepository.findById(student.getUserId()).orElseThrow().getTokenHash());
+    }
+
+    @Test
+    @DisplayName("Widerrufener Feed-Token soll nicht mehr gelten")
+    void revoke_shouldInvalidateToken() {
+        CalendarFeedTokenDto token = feedTokenService.rotate(student.getUserId());
+
+        feedTokenService.revoke(student.getUserId());
+
+        assertThrows(EntityNotFoundException.class, () -> feedTokenService.findUserId(token.token()));
+    }
+
+    @Test
+    @DisplayName("Feed-Token für unbekannten Benutzer soll abgelehnt werden")
+    void rotate_shouldThrow_whenUserDoesNotExist() {
+        assertThrows(EntityNotFoundException.class, () -> feedTokenService.rotate(999L));
+    }
+}
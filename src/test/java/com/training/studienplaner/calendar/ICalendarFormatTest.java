@@ -0,0 +1,51 @@
+package com.training.studienplaner.calendar;
+
+import com.training.studienplaner.assignment.Assignment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ICalendarFormatTest {
+
+    @Test
+    @DisplayName("Sonderzeichen in Texten sollen maskiert werden")
+    void escape_shouldEscapeTextValues() {
+        assertEquals("a\\, b\\; c\\\\d\\ne", ICalendarFormat.escape("a, b; c\\d\ne"));
+    }
+
+    @Test
+    @DisplayName("Lange Zeilen sollen nach 75 Oktetten umbrochen werden, ohne Zeichen zu teilen")
+    void line_shouldFoldLongLinesAtOctetBoundaries() {
+        String folded = ICalendarFormat.line("SUMMARY:" + "ä".repeat(80));
+
+        for (String line : folded.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+        assertEquals("SUMMARY:" + "ä".repeat(80), folded.replace("\r\n ", "").replace("\r\n", ""));
+    }
+
+    @Test
+    @DisplayName("Frist soll als UTC-Zeitpunkt mit Sequenz aus der Version geschrieben werden")
+    void event_shouldWriteDeadlineInUtcAndVersionAsSequence() {
+        CalendarEntry entry = new CalendarEntry(7L, 3L, "Blatt 1", "Aufgaben 1-3", Assignment.AssignmentType.HOMEWORK,
+                LocalDateTime.of(2025, 3, 1, 12, 0), "Mathe");
+
+        String event = ICalendarFormat.event(entry, Instant.parse("2025-02-01T08:00:00Z"), ZoneId.of("Europe/Berlin"));
+
+        assertTrue(event.startsWith("BEGIN:VEVENT\r\n"));
+        assertTrue(event.contains("UID:assignment-7@studienplaner\r\n"));
+        assertTrue(event.contains("DTSTAMP:20250201T080000Z\r\n"));
+        assertTrue(event.contains("SEQUENCE:3\r\n"));
+        assertTrue(event.contains("DTSTART:20250301T110000Z\r\n"));
+        assertTrue(event.contains("SUMMARY:Mathe: Blatt 1\r\n"));
+        assertTrue(event.contains("CATEGORIES:HOMEWORK\r\n"));
+        assertTrue(event.endsWith("END:VEVENT\r\n"));
+    }
+}
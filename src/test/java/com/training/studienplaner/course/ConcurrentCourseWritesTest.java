@@ -0,0 +1,144 @@
+package com.training.studienplaner.course;
+
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.assignment.AssignmentRequestDto;
+import com.training.studienplaner.assignment.AssignmentService;
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import com.training.studienplaner.user.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+// Two writers of the same course overlap the way two requests do: both have written
+// before either commits. Neither may fail because of the other.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:concurrent-course-writes;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class ConcurrentCourseWritesTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Gleichzeitige Einschreibungen in denselben Kurs sollen beide gelingen")
+    void enrollUserToCourse_shouldSucceedConcurrently() throws Exception {
+        Long courseId = saveCourse("Analysis");
+        Long first = saveStudent("erste@uni.de");
+        Long second = saveStudent("zweite@uni.de");
+        CourseVersion before = courseService.getCourseVersion(courseId);
+
+        runConcurrently(
+                () -> userService.enrollUserToCourse(first, courseId),
+                () -> userService.enrollUserToCourse(second, courseId));
+
+        CourseVersion after = courseService.getCourseVersion(courseId);
+        assertEquals(2L, after.students());
+        assertEquals(before.course(), after.course());
+        assertNotEquals(before.studentsTag(), after.studentsTag());
+    }
+
+    @Test
+    @DisplayName("Überlappende Masseneinschreibungen in denselben Kurs sollen beide gelingen")
+    void enrollStudents_shouldSucceedConcurrently() throws Exception {
+        Long courseId = saveCourse("Lineare Algebra");
+        List<Long> morning = List.of(saveStudent("a@uni.de"), saveStudent("b@uni.de"));
+        List<Long> evening = List.of(saveStudent("c@uni.de"), saveStudent("d@uni.de"));
+
+        runConcurrently(
+                () -> courseService.enrollStudents(courseId, new CourseEnrollmentRequestDto(morning)),
+                () -> courseService.enrollStudents(courseId, new CourseEnrollmentRequestDto(evening)));
+
+        assertEquals(4L, courseService.getCourseVersion(courseId).students());
+    }
+
+    @Test
+    @DisplayName("Gleichzeitig angelegte Aufgaben desselben Kurses sollen beide gespeichert werden und den ETag ändern")
+    void createAssignment_shouldSucceedConcurrently() throws Exception {
+        Long courseId = saveCourse("Numerik");
+        CourseVersion before = courseService.getCourseVersion(courseId);
+
+        runConcurrently(
+                () -> assignmentService.createAssignment(assignment("Blatt 1", courseId)),
+                () -> assignmentService.createAssignment(assignment("Blatt 2", courseId)));
+
+        CourseVersion after = courseService.getCourseVersion(courseId);
+        assertEquals(2L, after.assignments());
+        assertNotEquals(before.assignmentsTag(), after.assignmentsTag());
+    }
+
+    private void runConcurrently(Runnable first, Runnable second) throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CyclicBarrier written = new CyclicBarrier(2);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            List<Future<?>> commits = Stream.of(first, second)
+                    .<Future<?>>map(write -> executor.submit(() -> transaction.executeWithoutResult(status -> {
+                        write.run();
+                        await(written);
+                    })))
+                    .toList();
+            for (Future<?> commit : commits) {
+                commit.get(30, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Long saveCourse(String title) {
+        return courseRepository.save(Course.builder().title(title).ects((short) 5).build()).getCourseId();
+    }
+
+    private Long saveStudent(String email) {
+        return userRepository.save(User.builder()
+                .name("Test")
+                .surname(email)
+                .role(User.Role.STUDENT)
+                .email(email)
+                .password("password")
+                .build()).getUserId();
+    }
+
+    private static AssignmentRequestDto assignment(String title, Long courseId) {
+        return new AssignmentRequestDto(title, "Beschreibung", Assignment.AssignmentType.HOMEWORK,
+                LocalDateTime.now().plusDays(7), courseId);
+    }
+}
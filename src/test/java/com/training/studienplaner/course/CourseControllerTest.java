@@ -1,7 +1,6 @@
 package com.training.studienplaner.course;
 
 import com.training.studienplaner.assignment.AssignmentResponseDto;
-import com.training.studienplaner.security.AuthorizationService;
 import com.training.studienplaner.user.UserResponseDto;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +11,9 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -34,8 +36,7 @@ public class CourseControllerTest {
     @MockBean
     private CourseService courseService;
 
-    @MockBean(name = "authz")
-    AuthorizationService authz;
+    private static final CourseVersion VERSION = new CourseVersion(1L, 2L, 1L, 3L, 6L, 0L, 0L, 0L);
 
     @Test
     @DisplayName("STUDENT darf alle Kurse sehen")
@@ -45,10 +46,9 @@ public class CourseControllerTest {
                 1L, "Test Course", "Test Description", null, (short) 5, null, null
         );
 
-        when(authz.canAccessAny(any(), eq("TEACHER"), eq("STUDENT"))).thenReturn(true);
         when(courseService.getAllCourses()).thenReturn(List.of(responseDto));
 
-        mockMvc.perform(get("/courses"))
+        mockMvc.perform(get("/courses").param("view", "full"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].courseId").value(1L))
                 .andExpect(jsonPath("$[0].title").value("Test Course"));
@@ -56,6 +56,27 @@ public class CourseControllerTest {
         verify(courseService).getAllCourses();
     }
 
+    @Test
+    @DisplayName("Ohne view=full soll eine paginierte Kursübersicht geliefert werden")
+    @WithMockUser(username = "student@uni.de", roles = {"STUDENT"})
+    void getCourseSummaries_shouldReturnPagedSummaries() throws Exception {
+        CourseSummaryPageDto page = new CourseSummaryPageDto(
+                List.of(new CourseSummaryDto(1L, "Test Course", "Max", "Tutor", (short) 5, 3, 40)),
+                1, 10, 11, 2
+        );
+
+        when(courseService.getCourseSummaries(any(Pageable.class))).thenReturn(page);
+
+        mockMvc.perform(get("/courses").param("page", "1").param("size", "10").param("sort", "ects,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].assignmentCount").value(3))
+                .andExpect(jsonPath("$.items[0].studentCount").value(40))
+                .andExpect(jsonPath("$.totalPages").value(2));
+
+        verify(courseService).getCourseSummaries(PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "ects")));
+        verify(courseService, never()).getAllCourses();
+    }
+
     @Test
     @DisplayName("TEACHER darf Kurs anhand der ID sehen")
     @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
@@ -64,37 +85,69 @@ public class CourseControllerTest {
                 1L, "Test Course", "Test Description", null, (short) 5, null, null
         );
 
-        when(authz.canAccessAny(any(), eq("TEACHER"), eq("STUDENT"))).thenReturn(true);
-        when(courseService.getCourseById(1L)).thenReturn(responseDto);
+        when(courseService.getCourseVersion(1L)).thenReturn(VERSION);
+        when(courseService.getCourseByVersion(VERSION)).thenReturn(responseDto);
 
         mockMvc.perform(get("/courses/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + VERSION.courseTag() + "\""))
                 .andExpect(jsonPath("$.courseId").value(1L))
                 .andExpect(jsonPath("$.title").value("Test Course"));
 
-        verify(courseService).getCourseById(1L);
+        verify(courseService).getCourseByVersion(VERSION);
+    }
+
+    @Test
+    @DisplayName("Unveränderter Kurs soll mit 304 beantwortet werden, ohne ihn zu laden")
+    @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
+    void getCourseById_shouldReturnNotModified_whenEtagMatches() throws Exception {
+        when(courseService.getCourseVersion(1L)).thenReturn(VERSION);
+
+        mockMvc.perform(get("/courses/1").header("If-None-Match", "\"" + VERSION.courseTag() + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"" + VERSION.courseTag() + "\""))
+                .andExpect(content().string(""));
+
+        verify(courseService, never()).getCourseByVersion(any());
+        verify(courseService, never()).getCourseById(any());
+    }
+
+    @Test
+    @DisplayName("Veralteter ETag soll den aktuellen Kurs liefern")
+    @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
+    void getCourseById_shouldReturnCourse_whenEtagIsStale() throws Exception {
+        CourseResponseDto responseDto = new CourseResponseDto(
+                1L, "Test Course", "Test Description", null, (short) 5, null, null
+        );
+        CourseVersion previous = new CourseVersion(1L, 1L, 1L, 3L, 5L, 0L, 0L, 0L);
+
+        when(courseService.getCourseVersion(1L)).thenReturn(VERSION);
+        when(courseService.getCourseByVersion(VERSION)).thenReturn(responseDto);
+
+        mockMvc.perform(get("/courses/1").header("If-None-Match", "\"" + previous.courseTag() + "\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + VERSION.courseTag() + "\""))
+                .andExpect(jsonPath("$.courseId").value(1L));
     }
 
     @Test
     @DisplayName("Soll 404 zurückgeben, wenn Kurs nicht existiert")
     @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
     void getCourseById_shouldReturnNotFound_whenCourseDoesNotExist() throws Exception {
-        when(authz.canAccessAny(any(), eq("TEACHER"), eq("STUDENT"))).thenReturn(true);
-        when(courseService.getCourseById(1L))
+        when(courseService.getCourseVersion(1L))
                 .thenThrow(new EntityNotFoundException("Course not found"));
 
         mockMvc.perform(get("/courses/1"))
                 .andExpect(status().isNotFound())
                 .andExpect(content().string("Course not found"));
 
-        verify(courseService).getCourseById(1L);
+        verify(courseService, never()).getCourseByVersion(any());
     }
 
     @Test
     @DisplayName("TEACHER darf neuen Kurs erstellen")
     @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
     void createCourse_shouldCreateCourse_whenTeacher() throws Exception {
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         CourseResponseDto responseDto = new CourseResponseDto(
                 1L, "Test Course", "Test Description", null, (short) 5, null, null
         );
@@ -141,7 +194,6 @@ public class CourseControllerTest {
     @DisplayName("ADMIN darf Kurs löschen")
     @WithMockUser(username = "admin@system.de", roles = {"ADMIN"})
     void deleteCourse_shouldDeleteCourse_whenAdmin() throws Exception {
-        when(authz.canAccessAny(any())).thenReturn(true);
         mockMvc.perform(delete("/courses/1"))
                 .andExpect(status().isNoContent());
 
@@ -166,18 +218,18 @@ public class CourseControllerTest {
                 1L, "Assignment Title", "Assignment Description", null, null, null
         );
 
-        when(authz.canAccessAny(any(), eq("TEACHER"), eq("STUDENT"))).thenReturn(true);
+        when(courseService.getCourseVersion(1L)).thenReturn(VERSION);
         when(courseService.getAssignmentsByCourseId(1L)).thenReturn(List.of(responseDto));
 
         mockMvc.perform(get("/courses/1/assignments"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + VERSION.assignmentsTag() + "\""))
                 .andExpect(jsonPath("$[0].assignmentId").value(1L))
                 .andExpect(jsonPath("$[0].title").value("Assignment Title"));
 
         verify(courseService).getAssignmentsByCourseId(1L);
     }
 
-
     @Test
     @DisplayName("TEACHER darf Studenten eines Kurses sehen")
     @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
@@ -186,11 +238,12 @@ public class CourseControllerTest {
                 1L, "John", "Doe", null, "john@example.com", null
         );
 
-        when(authz.canAccessAny(any(), eq("TEACHER"), eq("STUDENT"))).thenReturn(true);
+        when(courseService.getCourseVersion(1L)).thenReturn(VERSION);
         when(courseService.getStudentsByCourseId(1L)).thenReturn(List.of(responseDto));
 
         mockMvc.perform(get("/courses/1/students"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + VERSION.studentsTag() + "\""))
                 .andExpect(jsonPath("$[0].userId").value(1L))
                 .andExpect(jsonPath("$[0].name").value("John"))
                 .andExpect(jsonPath("$[0].email").value("john@example.com"));
@@ -198,6 +251,18 @@ public class CourseControllerTest {
         verify(courseService).getStudentsByCourseId(1L);
     }
 
+    @Test
+    @DisplayName("Unveränderte Teilnehmerliste soll mit 304 beantwortet werden")
+    @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
+    void getStudentsByCourseId_shouldReturnNotModified_whenEtagMatches() throws Exception {
+        when(courseService.getCourseVersion(1L)).thenReturn(VERSION);
+
+        mockMvc.perform(get("/courses/1/students").header("If-None-Match", "\"" + VERSION.studentsTag() + "\""))
+                .andExpect(status().isNotModified());
+
+        verify(courseService, never()).getStudentsByCourseId(any());
+    }
+
     @Test
     @DisplayName("STUDENT darf Studentenliste nicht sehen")
     @WithMockUser(username = "student@uni.de", roles = {"STUDENT"})
@@ -207,4 +272,32 @@ public class CourseControllerTest {
 
         verify(courseService, never()).getStudentsByCourseId(anyLong());
     }
+
+    @Test
+    @DisplayName("TEACHER darf Studierende gesammelt einschreiben")
+    @WithMockUser(username = "teacher@uni.de", roles = {"TEACHER"})
+    void enrollStudents_shouldReturnResult_whenTeacher() throws Exception {
+        when(courseService.enrollStudents(1L, new CourseEnrollmentRequestDto(List.of(1L, 2L, 3L))))
+                .thenReturn(new CourseEnrollmentResultDto(3, 2));
+
+        mockMvc.perform(post("/courses/1/students")
+                        .contentType("application/json")
+                        .content("{\"studentIds\": [1, 2, 3]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.enrolled").value(2));
+    }
+
+    @Test
+    @DisplayName("Leere Liste bei gesammelter Einschreibung soll abgelehnt werden")
+    @WithMockUser(username = "teacher@uni.de", roles = {"TEACHER"})
+    void enrollStudents_shouldReturnBadRequest_whenListIsEmpty() throws Exception {
+        when(courseService.enrollStudents(1L, new CourseEnrollmentRequestDto(List.of())))
+                .thenThrow(new IllegalArgumentException("Between 1 and 10000 student ids are required"));
+
+        mockMvc.perform(post("/courses/1/students")
+                        .contentType("application/json")
+                        .content("{\"studentIds\": []}"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,167 @@
+package com.training.studienplaner.course;
+
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.assignment.AssignmentRepository;
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CourseRepositoryTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Course prepareCourse(String title, User tutor) {
+        return courseRepository.save(Course.builder()
+                .title(title)
+                .description("Course Description")
+                .ects((short) 5)
+                .tutor(tutor)
+                .build());
+    }
+
+    private User prepareUser(String email, User.Role role, Set<Course> courses) {
+        return userRepository.save(User.builder()
+                .name("Test")
+                .surname(email)
+                .role(role)
+                .email(email)
+                .password("password")
+                .coursesList(courses)
+                .build());
+    }
+
+    private void prepareAssignment(Course course) {
+        assignmentRepository.save(Assignment.builder()
+                .title("Test Assignment")
+                .description("Assignment Description")
+                .type(Assignment.AssignmentType.HOMEWORK)
+                .deadline(LocalDateTime.now().plusDays(7))
+                .course(course)
+                .build());
+    }
+
+    @Test
+    @DisplayName("findSummaries: sollte Anzahl der Aufgaben und Studierenden je Kurs liefern")
+    void shouldCountAssignmentsAndStudentsPerCourse() {
+        User tutor = prepareUser("tutor@example.com", User.Role.TEACHER, Set.of());
+        Course analysis = prepareCourse("Analysis", tutor);
+        Course algebra = prepareCourse("Algebra", null);
+        prepareAssignment(analysis);
+        prepareAssignment(analysis);
+        prepareUser("a@example.com", User.Role.STUDENT, Set.of(analysis, algebra));
+        prepareUser("b@example.com", User.Role.STUDENT, Set.of(analysis));
+
+        Page<CourseSummaryDto> page = courseRepository.findSummaries(PageRequest.of(0, 10, Sort.by("title")));
+
+        assertThat(page.getContent()).containsExactly(
+                new CourseSummaryDto(algebra.getCourseId(), "Algebra", null, null, (short) 5, 0, 1),
+                new CourseSummaryDto(analysis.getCourseId(), "Analysis", "Test", "tutor@example.com", (short) 5, 2, 2)
+        );
+    }
+
+    @Test
+    @DisplayName("findSummaries: sollte seitenweise liefern")
+    void shouldPageSummaries() {
+        prepareCourse("A", null);
+        prepareCourse("B", null);
+        prepareCourse("C", null);
+
+        Page<CourseSummaryDto> page = courseRepository.findSummaries(PageRequest.of(1, 2, Sort.by("title")));
+
+        assertThat(page.getContent()).extracting(CourseSummaryDto::title).containsExactly("C");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("enrollUsers: sollte nur neue Einschreibungen anlegen und unbekannte IDs ignorieren")
+    void shouldEnrollUsersIdempotently() {
+        Course course = prepareCourse("Analysis", null);
+        User enrolled = prepareUser("a@example.com", User.Role.STUDENT, Set.of(course));
+        User fresh = prepareUser("b@example.com", User.Role.STUDENT, Set.of());
+        courseRepository.flush();
+
+        int first = courseRepository.enrollUsers(course.getCourseId(),
+                List.of(enrolled.getUserId(), fresh.getUserId(), 999_999L));
+        int second = courseRepository.enrollUsers(course.getCourseId(), List.of(fresh.getUserId()));
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(courseRepository.findSummaries(PageRequest.of(0, 10)).getContent())
+                .extracting(CourseSummaryDto::studentCount)
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("findVersionById: sollte sich nur für die betroffenen Darstellungen ändern")
+    void shouldChangeVersionWithEnrollments() {
+        User tutor = prepareUser("tutor@example.com", User.Role.TEACHER, Set.of());
+        Course course = prepareCourse("Analysis", tutor);
+        prepareAssignment(course);
+        User enrolled = prepareUser("a@example.com", User.Role.STUDENT, Set.of(course));
+        User fresh = prepareUser("b@example.com", User.Role.STUDENT, Set.of());
+        courseRepository.flush();
+        List<Long> userIds = List.of(enrolled.getUserId(), fresh.getUserId());
+
+        CourseVersion before = courseRepository.findVersionById(course.getCourseId()).orElseThrow();
+        int bumped = courseRepository.incrementVersionOfNewStudents(course.getCourseId(), userIds);
+        courseRepository.enrollUsers(course.getCourseId(), userIds);
+        CourseVersion after = courseRepository.findVersionById(course.getCourseId()).orElseThrow();
+
+        assertThat(before.students()).isEqualTo(1);
+        assertThat(bumped).isEqualTo(1);
+        assertThat(after.students()).isEqualTo(2);
+        assertThat(after.studentVersions()).isEqualTo(before.studentVersions() + 1);
+        assertThat(after.studentsTag()).isNotEqualTo(before.studentsTag());
+        assertThat(after.assignmentsTag()).isEqualTo(before.assignmentsTag());
+        assertThat(courseRepository.findVersionById(999_999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findVersionById: sollte sich beim Anlegen und Löschen von Aufgaben ändern, ohne die Kursversion zu erhöhen")
+    void shouldChangeAssignmentsTagWithoutCourseVersion() {
+        Course course = prepareCourse("Analysis", null);
+        prepareAssignment(course);
+        courseRepository.flush();
+        CourseVersion initial = courseRepository.findVersionById(course.getCourseId()).orElseThrow();
+
+        prepareAssignment(course);
+        assignmentRepository.flush();
+        CourseVersion added = courseRepository.findVersionById(course.getCourseId()).orElseThrow();
+        Assignment first = assignmentRepository.findAll().stream()
+                .min(Comparator.comparing(Assignment::getAssignmentId))
+                .orElseThrow();
+        assignmentRepository.delete(first);
+        assignmentRepository.flush();
+        CourseVersion removed = courseRepository.findVersionById(course.getCourseId()).orElseThrow();
+
+        assertThat(added.assignments()).isEqualTo(2);
+        assertThat(removed.assignments()).isEqualTo(1);
+        assertThat(List.of(initial.assignmentsTag(), added.assignmentsTag(), removed.assignmentsTag()))
+                .doesNotHaveDuplicates();
+        assertThat(removed.course()).isEqualTo(initial.course());
+        assertThat(removed.studentsTag()).isEqualTo(initial.studentsTag());
+    }
+}
@@ -3,6 +3,7 @@ package com.training.studienplaner.course;
 import com.training.studienplaner.assignment.Assignment;
 import com.training.studienplaner.assignment.AssignmentMapper;
 import com.training.studienplaner.assignment.AssignmentResponseDto;
+import com.training.studienplaner.cache.EntityChangeEvent;
 import com.training.studienplaner.user.User;
 import com.training.studienplaner.user.UserMapper;
 import com.training.studienplaner.user.UserResponseDto;
@@ -13,9 +14,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +45,9 @@ public class CourseServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CourseService courseService;
 
@@ -143,14 +155,71 @@ public class CourseServiceTest {
         UserResponseDto responseDto = mock(UserResponseDto.class);
 
         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
-        when(course.getStudents()).thenReturn(List.of(user));
-        when(userMapper.toResponseDto(List.of(user))).thenReturn(List.of(responseDto));
+        when(course.getStudents()).thenReturn(Set.of(user));
+        when(userMapper.toResponseDto(Set.of(user))).thenReturn(List.of(responseDto));
 
         List<UserResponseDto> result = courseService.getStudentsByCourseId(1L);
 
         assertEquals(1, result.size());
         assertEquals(responseDto, result.get(0));
         verify(courseRepository).findById(1L);
-        verify(userMapper).toResponseDto(List.of(user));
+        verify(userMapper).toResponseDto(Set.of(user));
+    }
+
+    @Test
+    @DisplayName("Soll Kursübersicht als Seite liefern")
+    void getCourseSummaries_shouldReturnPage() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("title"));
+        CourseSummaryDto summary = new CourseSummaryDto(1L, "Analysis", null, null, (short) 5, 2, 30);
+        when(courseRepository.findSummaries(pageable)).thenReturn(new PageImpl<>(List.of(summary), pageable, 3));
+
+        CourseSummaryPageDto result = courseService.getCourseSummaries(pageable);
+
+        assertEquals(List.of(summary), result.items());
+        assertEquals(3, result.totalElements());
+        assertEquals(2, result.totalPages());
+    }
+
+    @Test
+    @DisplayName("Soll unbekannte Sortierfelder ablehnen")
+    void getCourseSummaries_shouldRejectUnknownSortProperty() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("students"));
+
+        assertThrows(IllegalArgumentException.class, () -> courseService.getCourseSummaries(pageable));
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    @DisplayName("Soll Studierende ohne Duplikate in Blöcken einschreiben")
+    void enrollStudents_shouldDeduplicateAndChunkIds() {
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, 1500).boxed().toList());
+        ids.add(1L);
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.enrollUsers(eq(1L), anyCollection())).thenReturn(1000, 400);
+
+        CourseEnrollmentResultDto result = courseService.enrollStudents(1L, new CourseEnrollmentRequestDto(ids));
+
+        assertEquals(new CourseEnrollmentResultDto(1500, 1400), result);
+        verify(courseRepository, times(2)).incrementVersionOfNewStudents(eq(1L), anyCollection());
+        verify(courseRepository, times(2)).enrollUsers(eq(1L), anyCollection());
+        verify(eventPublisher).publishEvent(EntityChangeEvent.enrollment(null, 1L));
+    }
+
+    @Test
+    @DisplayName("Soll Ausnahme werfen, wenn der Kurs für die Einschreibung nicht existiert")
+    void enrollStudents_shouldThrow_whenCourseNotFound() {
+        when(courseRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class,
+                () -> courseService.enrollStudents(1L, new CourseEnrollmentRequestDto(List.of(1L))));
+        verify(courseRepository, never()).enrollUsers(any(), any());
+    }
+
+    @Test
+    @DisplayName("Soll leere Einschreibungslisten ablehnen")
+    void enrollStudents_shouldRejectEmptyList() {
+        assertThrows(IllegalArgumentException.class,
+                () -> courseService.enrollStudents(1L, new CourseEnrollmentRequestDto(List.of())));
+        verifyNoInteractions(courseRepository);
     }
 }
@@ -0,0 +1,80 @@
+package com.training.studienplaner.ratelimit;
+
+import com.training.studienplaner.security.CustomUserDetails;
+import com.training.studienplaner.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final RateLimitFilter filter = new RateLimitFilter(new RequestRateLimiter(
+            Map.of(User.Role.STUDENT, new RequestRateLimiter.Limit(1, Duration.ofMillis(1500))),
+            Duration.ofMinutes(1), 1000, nanos::get), true);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Numerische Pfadsegmente sollen zu {id} zusammengefasst werden")
+    void route_shouldReplaceNumericSegments() {
+        assertEquals("GET /users/{id}/courses", RateLimitFilter.route(new MockHttpServletRequest("GET", "/users/42/courses")));
+        assertEquals("GET /submissions/user/{id}", RateLimitFilter.route(new MockHttpServletRequest("GET", "/submissions/user/7")));
+        assertEquals("PUT /submissions/batch", RateLimitFilter.route(new MockHttpServletRequest("PUT", "/submissions/batch")));
+        assertEquals("GET /users/{id}/calendar.ics", RateLimitFilter.route(new MockHttpServletRequest("GET", "/users/1/calendar.ics")));
+    }
+
+    @Test
+    @DisplayName("Überschrittene Grenze soll 429 mit Retry-After liefern")
+    void doFilter_shouldRejectWithRetryAfter_whenLimitIsExceeded() throws Exception {
+        authenticate(User.Role.STUDENT);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/users/1/courses"), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/users/1/courses"), second, chain);
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+        assertEquals("2", second.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Anonyme Anfragen und Rollen ohne Grenze sollen durchgelassen werden")
+    void doFilter_shouldPassUnlimitedRequests() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/users/1/courses"), response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+
+        authenticate(User.Role.TEACHER);
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/users/1/courses"), response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    private static void authenticate(User.Role role) {
+        CustomUserDetails principal = CustomUserDetails.fromClaims(1L, "user@uni.de", role);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.training.studienplaner.ratelimit;
+
+import com.training.studienplaner.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestRateLimiterTest {
+
+    private static final String COURSES = "GET /users/{id}/courses";
+    private static final String SUBMISSIONS = "GET /submissions/user/{id}";
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("Jeder Benutzer soll je Route einen eigenen Eimer haben")
+    void tryAcquire_shouldLimitPerUserAndRoute() {
+        RequestRateLimiter rateLimiter = rateLimiter(1000);
+
+        assertEquals(0, rateLimiter.tryAcquire(1L, User.Role.STUDENT, COURSES));
+        assertEquals(0, rateLimiter.tryAcquire(1L, User.Role.STUDENT, COURSES));
+        assertEquals(Duration.ofSeconds(10).toNanos(), rateLimiter.tryAcquire(1L, User.Role.STUDENT, COURSES));
+
+        assertEquals(0, rateLimiter.tryAcquire(1L, User.Role.STUDENT, SUBMISSIONS));
+        assertEquals(0, rateLimiter.tryAcquire(2L, User.Role.STUDENT, COURSES));
+
+        nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals(0, rateLimiter.tryAcquire(1L, User.Role.STUDENT, COURSES));
+    }
+
+    @Test
+    @DisplayName("Grenzen sollen je Rolle gelten, Rollen ohne Kapazität sollen unbegrenzt sein")
+    void tryAcquire_shouldApplyLimitOfRole() {
+        RequestRateLimiter rateLimiter = rateLimiter(1000);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire(3L, User.Role.TEACHER, COURSES));
+            assertEquals(0, rateLimiter.tryAcquire(4L, User.Role.ADMIN, COURSES));
+        }
+        assertTrue(rateLimiter.tryAcquire(3L, User.Role.TEACHER, COURSES) > 0);
+        assertEquals(1, rateLimiter.size());
+    }
+
+    @Test
+    @DisplayName("Vollständig aufgefüllte Eimer sollen beim Aufräumen entfernt werden")
+    void sweep_shouldDropIdleBuckets() {
+        RequestRateLimiter rateLimiter = rateLimiter(1000);
+        rateLimiter.tryAcquire(1L, User.Role.STUDENT, COURSES);
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+        rateLimiter.tryAcquire(2L, User.Role.STUDENT, COURSES);
+
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+        rateLimiter.sweep();
+
+        assertEquals(1, rateLimiter.size());
+    }
+
+    @Test
+    @DisplayName("Bei voller Tabelle sollen neue Routen eines Benutzers einen gemeinsamen Eimer teilen")
+    void tryAcquire_shouldFallBackToOverflowBucket_whenMapIsFull() {
+        RequestRateLimiter rateLimiter = rateLimiter(1);
+        rateLimiter.tryAcquire(1L, User.Role.STUDENT, COURSES);
+
+        assertEquals(0, rateLimiter.tryAcquire(2L, User.Role.STUDENT, "GET /a"));
+        assertEquals(0, rateLimiter.tryAcquire(2L, User.Role.STUDENT, "GET /b"));
+        assertTrue(rateLimiter.tryAcquire(2L, User.Role.STUDENT, "GET /c") > 0);
+        assertEquals(2, rateLimiter.size());
+    }
+
+    private RequestRateLimiter rateLimiter(long maximumKeys) {
+        return new RequestRateLimiter(Map.of(
+                User.Role.STUDENT, new RequestRateLimiter.Limit(2, Duration.ofSeconds(10)),
+                User.Role.TEACHER, new RequestRateLimiter.Limit(5, Duration.ofSeconds(1)),
+                User.Role.ADMIN, new RequestRateLimiter.Limit(0, Duration.ofSeconds(1))),
+                Duration.ofMinutes(1), maximumKeys, nanos::get);
+    }
+}
@@ -0,0 +1,73 @@
+package com.training.studienplaner.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("Leerer Eimer soll die Wartezeit bis zum nächsten Token liefern und danach wieder erlauben")
+    void tryConsume_shouldRefillOverTime() {
+        TokenBucket bucket = new TokenBucket(2, 1_000, 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(1_000, bucket.tryConsume(0));
+        assertEquals(600, bucket.tryConsume(400));
+        assertEquals(0, bucket.tryConsume(1_000));
+    }
+
+    @Test
+    @DisplayName("Eimer soll nie mehr als seine Kapazität ansammeln")
+    void tryConsume_shouldNotExceedCapacity() {
+        TokenBucket bucket = new TokenBucket(1, 1_000, 0);
+
+        assertEquals(0, bucket.tryConsume(1_000_000));
+        assertEquals(1_000, bucket.tryConsume(1_000_000));
+    }
+
+    @Test
+    @DisplayName("Zurückgegebenes Token soll wieder verfügbar sein, aber die Kapazität nicht überschreiten")
+    void refund_shouldReturnTokenUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(1, 1_000, 0);
+
+        bucket.refund();
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(1_000, bucket.tryConsume(0));
+        bucket.refund();
+        assertEquals(0, bucket.tryConsume(0));
+        assertFalse(bucket.isFull(0));
+        assertTrue(bucket.isFull(1_000));
+    }
+
+    @Test
+    @DisplayName("Gleichzeitige Zugriffe sollen genau die Kapazität an Tokens erhalten")
+    void tryConsume_shouldHandOutCapacityUnderContention() throws Exception {
+        TokenBucket bucket = new TokenBucket(1_000, 1_000_000_000L, 0);
+        AtomicInteger granted = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            CountDownLatch start = new CountDownLatch(1);
+            for (int thread = 0; thread < 8; thread++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 500; i++) {
+                        if (bucket.tryConsume(0) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertEquals(1_000, granted.get());
+    }
+}
@@ -0,0 +1,155 @@
+package com.training.studienplaner.reminder;
+
+import com.training.studienplaner.cache.EntityChangeEvent;
+import com.training.studienplaner.cache.ReplicatedEntityChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadlineReminderSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Mock
+    private ReminderRepository reminderRepository;
+
+    @Mock
+    private DeadlineReminderService reminderService;
+
+    @Mock
+    private Clock clock;
+
+    private DeadlineReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        at(NOW);
+        scheduler = new DeadlineReminderScheduler(reminderRepository, reminderService,
+                Duration.ofHours(24), Duration.ofMinutes(1), 64, clock);
+    }
+
+    @Test
+    @DisplayName("Beim Start geladene Fristen sollen die Lead-Zeit vor der Frist erinnert werden")
+    void load_shouldScheduleRemindersLeadTimeBeforeDeadline() {
+        when(reminderRepository.findPendingDeadlinesAfter(NOW)).thenReturn(List.of(
+                new AssignmentDeadline(1L, NOW.plusHours(30)),
+                new AssignmentDeadline(2L, NOW.plusDays(10))));
+
+        scheduler.load();
+        at(NOW.plusHours(6).minusMinutes(1));
+        scheduler.tick();
+        verifyNoInteractions(reminderService);
+
+        at(NOW.plusHours(6));
+        scheduler.tick();
+
+        verify(reminderService).sendReminders(1L);
+        verifyNoMoreInteractions(reminderService);
+        assertEquals(1, scheduler.scheduled());
+    }
+
+    @Test
+    @DisplayName("Beim Start fällige oder während der Ausfallzeit verpasste Erinnerungen sollen mit dem ersten Tick verschickt werden")
+    void load_shouldRemindOverdueDeadlinesWithFirstTick() {
+        when(reminderRepository.findPendingDeadlinesAfter(NOW)).thenReturn(List.of(
+                new AssignmentDeadline(1L, NOW.plusHours(2)),
+                new AssignmentDeadline(2L, NOW.plusHours(23)),
+                new AssignmentDeadline(3L, NOW.plusHours(25))));
+
+        scheduler.load();
+        at(NOW.plusMinutes(1));
+        scheduler.tick();
+
+        verify(reminderService).sendReminders(1L);
+        verify(reminderService).sendReminders(2L);
+        verifyNoMoreInteractions(reminderService);
+        assertEquals(1, scheduler.scheduled());
+    }
+
+    @Test
+    @DisplayName("Auf einer anderen Instanz angelegte Aufgabe soll ebenfalls eingeplant werden")
+    void onReplicatedChange_shouldScheduleAssignmentOfOtherReplica() {
+        when(reminderRepository.findPendingDeadlinesAfter(any())).thenReturn(List.of());
+        scheduler.load();
+        when(reminderRepository.findTarget(5L))
+                .thenReturn(Optional.of(new ReminderTarget(5L, "Blatt 1", "Mathe", NOW.plusDays(3))));
+
+        scheduler.onReplicatedChange(new ReplicatedEntityChangeEvent(EntityChangeEvent.assignment(5L, 1L)));
+        scheduler.onReplicatedChange(new ReplicatedEntityChangeEvent(EntityChangeEvent.submission(7L, 5L)));
+
+        assertEquals(1, scheduler.scheduled());
+        verify(reminderRepository).findTarget(5L);
+    }
+
+    @Test
+    @DisplayName("Neue Aufgabe soll eingeplant, gelöschte Aufgabe wieder entfernt werden")
+    void onEntityChange_shouldFollowCreatedAndDeletedAssignments() {
+        when(reminderRepository.findPendingDeadlinesAfter(any())).thenReturn(List.of());
+        scheduler.load();
+
+        when(reminderRepository.findTarget(5L))
+                .thenReturn(Optional.of(new ReminderTarget(5L, "Blatt 1", "Mathe", NOW.plusDays(3))));
+        scheduler.onEntityChange(EntityChangeEvent.assignment(5L, 1L));
+        assertEquals(1, scheduler.scheduled());
+
+        when(reminderRepository.findTarget(5L)).thenReturn(Optional.empty());
+        scheduler.onEntityChange(EntityChangeEvent.assignment(5L, 1L));
+        assertEquals(0, scheduler.scheduled());
+
+        at(NOW.plusDays(3));
+        scheduler.tick();
+        verifyNoInteractions(reminderService);
+    }
+
+    @Test
+    @DisplayName("Aufgabe mit Frist innerhalb der Lead-Zeit soll sofort erinnert werden")
+    void onEntityChange_shouldRemindRightAwayWithinLeadTime() {
+        when(reminderRepository.findPendingDeadlinesAfter(any())).thenReturn(List.of());
+        scheduler.load();
+        when(reminderRepository.findTarget(5L))
+                .thenReturn(Optional.of(new ReminderTarget(5L, "Blatt 1", "Mathe", NOW.plusHours(2))));
+
+        scheduler.onEntityChange(EntityChangeEvent.assignment(5L, 1L));
+        at(NOW.plusMinutes(1));
+        scheduler.tick();
+
+        verify(reminderService).sendReminders(5L);
+    }
+
+    @Test
+    @DisplayName("Fehler beim Versand sollen die übrigen Erinnerungen nicht aufhalten")
+    void tick_shouldContinueAfterSenderFailure() {
+        when(reminderRepository.findPendingDeadlinesAfter(any())).thenReturn(List.of(
+                new AssignmentDeadline(1L, NOW.plusHours(25)),
+                new AssignmentDeadline(2L, NOW.plusHours(25))));
+        when(reminderService.sendReminders(1L)).thenThrow(new IllegalStateException("smtp down"));
+        scheduler.load();
+
+        at(NOW.plusHours(1));
+        scheduler.tick();
+
+        verify(reminderService).sendReminders(2L);
+    }
+
+    private void at(LocalDateTime time) {
+        Instant instant = time.toInstant(ZoneOffset.UTC);
+        lenient().when(clock.instant()).thenReturn(instant);
+    }
+}
@@ -0,0 +1,152 @@
+package com.training.studienplaner.reminder;
+
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.assignment.AssignmentRepository;
+import com.training.studienplaner.course.Course;
+import com.training.studienplaner.course.CourseRepository;
+import com.training.studienplaner.submission.Submission;
+import com.training.studienplaner.submission.SubmissionRepository;
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "reminders.batch-size=2")
+@Import({DeadlineReminderService.class, DeadlineReminderServiceTest.CapturingSenderConfig.class})
+class DeadlineReminderServiceTest {
+
+    @Autowired
+    private DeadlineReminderService reminderService;
+
+    @Autowired
+    private CapturingReminderSender sender;
+
+    @Autowired
+    private ReminderRepository reminderRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @BeforeEach
+    void setUp() {
+        sender.reminders.clear();
+    }
+
+    @Test
+    @DisplayName("Erinnerungen sollen nur an Studierende ohne Abgabe und in Batches gehen")
+    void sendReminders_shouldBatchStudentsWithoutSubmission() {
+        Course course = courseRepository.save(Course.builder().title("Mathe").build());
+        Assignment assignment = assignmentRepository.save(Assignment.builder()
+                .title("Blatt 1")
+                .type(Assignment.AssignmentType.HOMEWORK)
+                .deadline(LocalDateTime.of(2025, 3, 2, 12, 0))
+                .course(course)
+                .build());
+        for (int i = 0; i < 4; i++) {
+            saveSubmission(assignment, "s" + i + "@uni.de", Submission.Status.NOT_SUBMITTED);
+        }
+        saveSubmission(assignment, "done@uni.de", Submission.Status.SUBMITTED);
+
+        int sent = reminderService.sendReminders(assignment.getAssignmentId());
+
+        assertEquals(4, sent);
+        assertEquals(List.of(2, 2), sender.reminders.stream().map(r -> r.recipients().size()).toList());
+        assertEquals(List.of("s0@uni.de", "s1@uni.de", "s2@uni.de", "s3@uni.de"), sender.reminders.stream()
+                .flatMap(r -> r.recipients().stream())
+                .map(ReminderRecipient::email)
+                .toList());
+        assertEquals("Mathe", sender.reminders.get(0).courseTitle());
+    }
+
+    @Test
+    @DisplayName("Erinnerung soll je Frist nur einmal verschickt werden, nach verschobener Frist erneut")
+    void sendReminders_shouldSendOncePerDeadline() {
+        Course course = courseRepository.save(Course.builder().title("Mathe").build());
+        LocalDateTime deadline = LocalDateTime.of(2025, 3, 2, 12, 0);
+        Assignment assignment = assignmentRepository.save(Assignment.builder()
+                .title("Blatt 1")
+                .type(Assignment.AssignmentType.HOMEWORK)
+                .deadline(deadline)
+                .course(course)
+                .build());
+        saveSubmission(assignment, "s0@uni.de", Submission.Status.NOT_SUBMITTED);
+
+        assertEquals(1, reminderService.sendReminders(assignment.getAssignmentId()));
+        assertEquals(0, reminderService.sendReminders(assignment.getAssignmentId()));
+        assertEquals(List.of(), reminderRepository.findPendingDeadlinesAfter(deadline.minusDays(1)));
+
+        assignment.setDeadline(deadline.plusDays(1));
+        assignmentRepository.saveAndFlush(assignment);
+
+        assertEquals(List.of(new AssignmentDeadline(assignment.getAssignmentId(), deadline.plusDays(1))),
+                reminderRepository.findPendingDeadlinesAfter(deadline.minusDays(1)));
+        assertEquals(1, reminderService.sendReminders(assignment.getAssignmentId()));
+        assertEquals(2, sender.reminders.size());
+    }
+
+    @Test
+    @DisplayName("Für gelöschte Aufgaben sollen keine Erinnerungen verschickt werden")
+    void sendReminders_shouldSkipMissingAssignment() {
+        assertEquals(0, reminderService.sendReminders(999L));
+        assertEquals(List.of(), sender.reminders);
+    }
+
+    private void saveSubmission(Assignment assignment, String email, Submission.Status status) {
+        User student = userRepository.save(User.builder()
+                .name("Student")
+                .surname("Test")
+                .role(User.Role.STUDENT)
+                .email(email)
+                .password("password")
+                .coursesList(new HashSet<>())
+                .build());
+        submissionRepository.save(Submission.builder()
+                .assignment(assignment)
+                .student(student)
+                .status(status)
+                .build());
+    }
+
+    static class CapturingReminderSender implements ReminderSender {
+        private final List<DeadlineReminder> reminders = new ArrayList<>();
+
+        @Override
+        public void send(DeadlineReminder reminder) {
+            reminders.add(reminder);
+        }
+    }
+
+    @TestConfiguration
+    static class CapturingSenderConfig {
+        @Bean
+        CapturingReminderSender capturingReminderSender() {
+            return new CapturingReminderSender();
+        }
+    }
+}
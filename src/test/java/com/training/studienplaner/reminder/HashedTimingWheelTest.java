@@ -0,0 +1,68 @@
+package com.training.studienplaner.reminder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    private static final Instant START = Instant.parse("2025-03-01T00:00:00Z");
+    private static final Duration TICK = Duration.ofMinutes(1);
+
+    @Test
+    @DisplayName("Timer soll beim ersten Tick ab seiner Fälligkeit auslösen")
+    void advance_shouldExpireTimerAtFirstTickAfterDue() {
+        HashedTimingWheel<Long, String> wheel = new HashedTimingWheel<>(TICK, 8, START);
+        wheel.schedule(1L, START.plusSeconds(90), "a");
+
+        assertEquals(List.of(), wheel.advance(START.plusSeconds(60)));
+        assertEquals(List.of("a"), wheel.advance(START.plusSeconds(120)));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Timer jenseits einer Radumdrehung soll erst nach den nötigen Runden auslösen")
+    void advance_shouldWaitFullRoundsForDistantTimers() {
+        HashedTimingWheel<Long, String> wheel = new HashedTimingWheel<>(TICK, 8, START);
+        wheel.schedule(1L, START.plus(Duration.ofMinutes(19)), "far");
+        wheel.schedule(2L, START.plus(Duration.ofMinutes(3)), "near");
+
+        assertEquals(List.of("near"), wheel.advance(START.plus(Duration.ofMinutes(18))));
+        assertEquals(List.of("far"), wheel.advance(START.plus(Duration.ofMinutes(19))));
+    }
+
+    @Test
+    @DisplayName("Überfällige Timer sollen mit dem nächsten Tick auslösen")
+    void schedule_shouldFireOverdueTimersWithNextTick() {
+        HashedTimingWheel<Long, String> wheel = new HashedTimingWheel<>(TICK, 8, START);
+        wheel.advance(START.plus(Duration.ofMinutes(5)));
+        wheel.schedule(1L, START, "late");
+
+        assertEquals(List.of("late"), wheel.advance(START.plus(Duration.ofMinutes(6))));
+    }
+
+    @Test
+    @DisplayName("Abgebrochene und ersetzte Timer sollen nicht auslösen")
+    void cancelAndReschedule_shouldDropOldTimers() {
+        HashedTimingWheel<Long, String> wheel = new HashedTimingWheel<>(TICK, 8, START);
+        wheel.schedule(1L, START.plus(Duration.ofMinutes(2)), "cancelled");
+        wheel.schedule(2L, START.plus(Duration.ofMinutes(2)), "moved");
+        wheel.schedule(2L, START.plus(Duration.ofMinutes(4)), "moved later");
+
+        assertTrue(wheel.cancel(1L));
+        assertFalse(wheel.cancel(1L));
+        assertEquals(List.of(), wheel.advance(START.plus(Duration.ofMinutes(3))));
+        assertEquals(List.of("moved later"), wheel.advance(START.plus(Duration.ofMinutes(4))));
+    }
+
+    @Test
+    @DisplayName("Radgröße muss eine Zweierpotenz sein")
+    void constructor_shouldRejectWheelSizeThatIsNoPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimingWheel<>(TICK, 10, START));
+    }
+}
@@ -0,0 +1,68 @@
+package com.training.studienplaner.security;
+
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CaffeineUserCache userCache;
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new CaffeineUserCache(100, Duration.ofMinutes(5));
+        userDetailsService = new CustomUserDetailsService(userRepository, userCache);
+    }
+
+    @Test
+    @DisplayName("Wiederholter Zugriff soll aus dem Cache bedient werden")
+    void loadUserByUsername_shouldHitDatabaseOnlyOnce() {
+        User user = User.builder().userId(1L).email("student@uni.de").role(User.Role.STUDENT).build();
+        when(userRepository.findByEmail("student@uni.de")).thenReturn(Optional.of(user));
+
+        UserDetails first = userDetailsService.loadUserByUsername("student@uni.de");
+        UserDetails second = userDetailsService.loadUserByUsername("student@uni.de");
+
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByEmail("student@uni.de");
+    }
+
+    @Test
+    @DisplayName("Nach dem Entfernen aus dem Cache soll erneut geladen werden")
+    void loadUserByUsername_shouldReloadAfterEviction() {
+        User user = User.builder().userId(1L).email("student@uni.de").role(User.Role.STUDENT).build();
+        when(userRepository.findByEmail("student@uni.de")).thenReturn(Optional.of(user));
+
+        userDetailsService.loadUserByUsername("student@uni.de");
+        userCache.removeUserFromCache("student@uni.de");
+        userDetailsService.loadUserByUsername("student@uni.de");
+
+        verify(userRepository, times(2)).findByEmail("student@uni.de");
+    }
+
+    @Test
+    @DisplayName("Unbekannte E-Mail soll eine Ausnahme werfen")
+    void loadUserByUsername_shouldThrow_whenUserMissing() {
+        when(userRepository.findByEmail("nobody@uni.de")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("nobody@uni.de"));
+    }
+}
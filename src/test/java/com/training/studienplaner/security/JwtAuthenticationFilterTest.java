@@ -0,0 +1,88 @@
+package com.training.studienplaner.security;
+
+import com.training.studienplaner.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final RevokedAccessTokenRepository repository = mock(RevokedAccessTokenRepository.class);
+    private final TokenRevocationRegistry revocationRegistry =
+            new TokenRevocationRegistry(repository, Duration.ofSeconds(5), 1000);
+    private JwtUtils jwtUtils;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "secret", "as78df79wefhw94yf98w4f8hwef8h2f98wefh2uwhf923hf");
+        ReflectionTestUtils.setField(jwtUtils, "expiration", 60_000L);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheSize", 100L);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheTtl", Duration.ofSeconds(30));
+        jwtUtils.init();
+        filter = new JwtAuthenticationFilter(jwtUtils, userDetailsService, revocationRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Gültiges Token soll den Benutzer authentifizieren")
+    void doFilter_shouldAuthenticateValidToken() throws Exception {
+        IssuedToken token = jwtUtils.issueToken(student());
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(userDetailsService, repository);
+    }
+
+    @Test
+    @DisplayName("Widerrufenes Token soll auch aus dem Verifikations-Cache heraus abgewiesen werden")
+    void doFilter_shouldIgnoreRevokedToken() throws Exception {
+        IssuedToken token = jwtUtils.issueToken(student());
+        jwtUtils.verifyAndExtract(token.token());
+        revocationRegistry.revokeAll(List.of(RevokedAccessToken.builder()
+                .tokenId(token.tokenId())
+                .expiresAt(token.expiresAt())
+                .revokedAt(Instant.now())
+                .build()));
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(repository);
+    }
+
+    private static MockHttpServletRequest request(IssuedToken token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/courses");
+        request.addHeader("Authorization", "Bearer " + token.token());
+        return request;
+    }
+
+    private static CustomUserDetails student() {
+        return new CustomUserDetails(User.builder()
+                .userId(42L)
+                .email("student@uni.de")
+                .role(User.Role.STUDENT)
+                .build());
+    }
+}
@@ -0,0 +1,136 @@
+package com.training.studienplaner.security;
+
+import com.training.studienplaner.user.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilsTest {
+
+    private JwtUtils jwtUtils;
+
+    private static final String SECRET = "as78df79wefhw94yf98w4f8hwef8h2f98wefh2uwhf923hf";
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = createJwtUtils(SECRET, 60_000L);
+    }
+
+    private static JwtUtils createJwtUtils(String secret, long expiration) {
+        JwtUtils utils = new JwtUtils();
+        ReflectionTestUtils.setField(utils, "secret", secret);
+        ReflectionTestUtils.setField(utils, "expiration", expiration);
+        ReflectionTestUtils.setField(utils, "verifiedCacheSize", 100L);
+        ReflectionTestUtils.setField(utils, "verifiedCacheTtl", Duration.ofSeconds(30));
+        utils.init();
+        return utils;
+    }
+
+    private static CustomUserDetails student() {
+        return new CustomUserDetails(User.builder()
+                .userId(42L)
+                .email("student@uni.de")
+                .password("secret")
+                .role(User.Role.STUDENT)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Token soll User-ID und Rolle als Claims enthalten")
+    void generateToken_shouldEmbedUserIdAndRole() {
+        User user = User.builder()
+                .userId(42L)
+                .email("student@uni.de")
+                .password("secret")
+                .role(User.Role.STUDENT)
+                .build();
+
+        String token = jwtUtils.generateToken(new CustomUserDetails(user));
+        CustomUserDetails principal = jwtUtils.getUserDetailsFromClaims(jwtUtils.getClaimsFromToken(token));
+
+        assertNotNull(principal);
+        assertEquals(42L, principal.getUser().getUserId());
+        assertEquals("student@uni.de", principal.getUsername());
+        assertEquals(User.Role.STUDENT, principal.getUser().getRole());
+        assertTrue(principal.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_STUDENT")));
+    }
+
+    @Test
+    @DisplayName("Token ohne Claims soll keinen Principal liefern")
+    void getUserDetailsFromClaims_shouldReturnNull_forLegacyToken() {
+        UserDetails legacy = org.springframework.security.core.userdetails.User
+                .withUsername("teacher@schule.de")
+                .password("secret")
+                .roles("TEACHER")
+                .build();
+
+        Claims claims = jwtUtils.getClaimsFromToken(jwtUtils.generateToken(legacy));
+
+        assertEquals("teacher@schule.de", claims.getSubject());
+        assertNull(jwtUtils.getUserDetailsFromClaims(claims));
+    }
+
+    @Test
+    @DisplayName("Gültiges Token soll verifiziert und die Claims geliefert werden")
+    void verifyAndExtract_shouldReturnClaims_forValidToken() {
+        String token = jwtUtils.generateToken(student());
+
+        JwtVerificationResult result = jwtUtils.verifyAndExtract(token);
+
+        assertTrue(result.isValid());
+        assertEquals("student@uni.de", result.claims().getSubject());
+    }
+
+    @Test
+    @DisplayName("Wiederholte Verifikation soll aus dem Cache bedient werden")
+    void verifyAndExtract_shouldServeRepeatedTokenFromCache() {
+        String token = jwtUtils.generateToken(student());
+
+        JwtVerificationResult first = jwtUtils.verifyAndExtract(token);
+        JwtVerificationResult second = jwtUtils.verifyAndExtract(token);
+
+        assertSame(first.claims(), second.claims());
+    }
+
+    @Test
+    @DisplayName("Abgelaufenes Token soll als EXPIRED gemeldet werden")
+    void verifyAndExtract_shouldReportExpiredToken() {
+        JwtUtils expiring = createJwtUtils(SECRET, -1_000L);
+        String token = expiring.generateToken(student());
+
+        assertEquals(JwtVerificationResult.Status.EXPIRED, expiring.verifyAndExtract(token).status());
+    }
+
+    @Test
+    @DisplayName("Fremd signiertes Token soll als INVALID_SIGNATURE gemeldet werden")
+    void verifyAndExtract_shouldReportForeignSignature() {
+        JwtUtils foreign = createJwtUtils("another-secret-another-secret-another-secret!", 60_000L);
+        String token = foreign.generateToken(student());
+
+        assertEquals(JwtVerificationResult.Status.INVALID_SIGNATURE, jwtUtils.verifyAndExtract(token).status());
+    }
+
+    @Test
+    @DisplayName("Kaputtes Token soll als MALFORMED gemeldet werden")
+    void verifyAndExtract_shouldReportMalformedToken() {
+        assertEquals(JwtVerificationResult.Status.MALFORMED, jwtUtils.verifyAndExtract("not.a.jwt").status());
+    }
+
+    @Test
+    @DisplayName("Jedes Token soll eine eigene Token-ID für den Widerruf tragen")
+    void issueToken_shouldAssignUniqueTokenId() {
+        IssuedToken first = jwtUtils.issueToken(student());
+        IssuedToken second = jwtUtils.issueToken(student());
+
+        assertNotEquals(first.tokenId(), second.tokenId());
+        assertEquals(first.tokenId(), jwtUtils.getClaimsFromToken(first.token()).getId());
+        assertTrue(first.expiresAt().isAfter(java.time.Instant.now()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.training.studienplaner.security;
+
+import com.training.studienplaner.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoleAuthorizationInterceptorTest {
+
+    private final RoleAuthorizationInterceptor interceptor =
+            new RoleAuthorizationInterceptor(new DefaultListableBeanFactory());
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @RequireRoles(User.Role.STUDENT)
+    static class Handlers {
+
+        @RequireRoles(User.Role.TEACHER)
+        public void teacherOnly() {
+        }
+
+        @RequireRoles
+        public void adminOnly() {
+        }
+
+        public void inherited() {
+        }
+    }
+
+    static class OpenHandlers {
+
+        public void open() {
+        }
+    }
+
+    @Test
+    @DisplayName("Rollen sollen als EnumSet mit ADMIN aufgelöst werden, Methode vor Klasse")
+    void resolve_shouldAddAdminAndPreferMethodAnnotation() throws Exception {
+        assertEquals(EnumSet.of(User.Role.ADMIN, User.Role.TEACHER), RoleAuthorizationInterceptor.resolve(handler("teacherOnly")));
+        assertEquals(EnumSet.of(User.Role.ADMIN), RoleAuthorizationInterceptor.resolve(handler("adminOnly")));
+        assertEquals(EnumSet.of(User.Role.ADMIN, User.Role.STUDENT), RoleAuthorizationInterceptor.resolve(handler("inherited")));
+        assertTrue(RoleAuthorizationInterceptor.resolve(new HandlerMethod(new OpenHandlers(), "open")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Erlaubte Rolle soll durchgelassen, andere Rollen sollen abgewiesen werden")
+    void preHandle_shouldCheckRoleOfPrincipal() throws Exception {
+        authenticate(User.Role.TEACHER);
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("teacherOnly")));
+
+        authenticate(User.Role.STUDENT);
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("teacherOnly")));
+
+        authenticate(User.Role.ADMIN);
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("adminOnly")));
+    }
+
+    @Test
+    @DisplayName("Ohne Anmeldung oder ohne bekannte Rolle soll der Zugriff verweigert werden")
+    void preHandle_shouldDenyWithoutKnownRole() throws Exception {
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("inherited")));
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("gast", null, "ROLE_GUEST"));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("inherited")));
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("student", null, "ROLE_STUDENT"));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("inherited")));
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), name);
+    }
+
+    private static void authenticate(User.Role role) {
+        CustomUserDetails principal = CustomUserDetails.fromClaims(1L, "user@uni.de", role);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
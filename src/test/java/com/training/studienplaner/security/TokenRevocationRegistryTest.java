@@ -0,0 +1,85 @@
+package com.training.studienplaner.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationRegistryTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T12:00:00Z");
+
+    @Mock
+    private RevokedAccessTokenRepository repository;
+
+    @Test
+    @DisplayName("Widerrufenes Token soll ohne Datenbankzugriff erkannt werden")
+    void isRevoked_shouldAnswerFromMemory() {
+        TokenRevocationRegistry registry = registry(NOW);
+
+        registry.revokeAll(List.of(revoked("a", NOW.plusSeconds(60), NOW)));
+
+        assertTrue(registry.isRevoked("a"));
+        assertFalse(registry.isRevoked("b"));
+        assertFalse(registry.isRevoked(null));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Refresh soll Widerrufe anderer Instanzen übernehmen und nur neuere nachladen")
+    void refresh_shouldLoadRevocationsOfOtherReplicas() {
+        TokenRevocationRegistry registry = registry(NOW);
+        Instant revokedAt = NOW.minusSeconds(10);
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(Instant.EPOCH, NOW))
+                .thenReturn(List.of(revoked("a", NOW.plusSeconds(60), revokedAt)));
+
+        registry.refresh();
+        registry.refresh();
+
+        assertTrue(registry.isRevoked("a"));
+        // the second poll starts one clock skew before the latest revocation seen
+        verify(repository).findByRevokedAtAfterAndExpiresAtAfter(revokedAt.minus(Duration.ofMinutes(1)), NOW);
+    }
+
+    @Test
+    @DisplayName("Abgelaufene Einträge sollen verworfen und aus der Tabelle gelöscht werden")
+    void refresh_shouldPruneExpiredTokens() {
+        TokenRevocationRegistry registry = registry(NOW);
+        registry.revokeAll(List.of(
+                revoked("expired", NOW, NOW.minusSeconds(60)),
+                revoked("valid", NOW.plusSeconds(60), NOW.minusSeconds(60))));
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of());
+
+        registry.refresh();
+
+        assertEquals(1, registry.size());
+        assertFalse(registry.isRevoked("expired"));
+        assertTrue(registry.isRevoked("valid"));
+        verify(repository).deleteExpired(eq(NOW));
+    }
+
+    private TokenRevocationRegistry registry(Instant now) {
+        return new TokenRevocationRegistry(repository, Duration.ofSeconds(5), 1000, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static RevokedAccessToken revoked(String tokenId, Instant expiresAt, Instant revokedAt) {
+        return RevokedAccessToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .revokedAt(revokedAt)
+                .build();
+    }
+}
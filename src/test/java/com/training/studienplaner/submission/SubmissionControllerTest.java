@@ -1,6 +1,5 @@
 package com.training.studienplaner.submission;
 
-import com.training.studienplaner.security.AuthorizationService;
 import com.training.studienplaner.security.CustomUserDetails;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +13,9 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
@@ -33,8 +34,8 @@ public class SubmissionControllerTest {
     @MockBean
     private SubmissionService submissionService;
 
-    @MockBean(name = "authz")
-    AuthorizationService authz;
+    @MockBean
+    private SubmissionExportService submissionExportService;
 
     @Test
     @DisplayName("ADMIN darf alle Abgaben sehen")
@@ -42,7 +43,6 @@ public class SubmissionControllerTest {
     void getAllSubmissions_shouldReturnList_whenAuthorized() throws Exception {
         SubmissionResponseDto dto = new SubmissionResponseDto(1L, null, null, Submission.Status.NOT_SUBMITTED, 5.0);
 
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(submissionService.getAllSubmissions()).thenReturn(List.of(dto));
 
         mockMvc.perform(get("/submissions"))
@@ -60,12 +60,66 @@ public class SubmissionControllerTest {
         verify(submissionService, never()).getAllSubmissions();
     }
 
+    @Test
+    @DisplayName("TEACHER darf Abgaben seitenweise mit Filtern abrufen")
+    @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
+    void getSubmissionPage_shouldReturnPage_whenAuthorized() throws Exception {
+        SubmissionResponseDto dto = new SubmissionResponseDto(5L, null, null, Submission.Status.GRADED, 1.7);
+        SubmissionFilter filter = new SubmissionFilter(Submission.Status.GRADED, 3L, null, 1.0, 2.0);
+
+        when(submissionService.getSubmissionPage(filter, 4L, 1)).thenReturn(new SubmissionPageDto(List.of(dto), 5L));
+
+        mockMvc.perform(get("/submissions/page")
+                        .param("status", "GRADED")
+                        .param("assignmentId", "3")
+                        .param("minGrade", "1.0")
+                        .param("maxGrade", "2.0")
+                        .param("cursor", "4")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].submissionId").value(5L))
+                .andExpect(jsonPath("$.nextCursor").value(5L));
+    }
+
+    @Test
+    @DisplayName("STUDENT darf Abgaben nicht seitenweise abrufen")
+    @WithMockUser(username = "student@uni.de", roles = {"STUDENT"})
+    void getSubmissionPage_shouldReturnForbidden_whenStudent() throws Exception {
+        mockMvc.perform(get("/submissions/page"))
+                .andExpect(status().isForbidden());
+
+        verify(submissionService, never()).getSubmissionPage(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("TEACHER darf Abgaben als CSV exportieren")
+    @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
+    void exportSubmissions_shouldStreamCsv_whenAuthorized() throws Exception {
+        mockMvc.perform(get("/submissions/export")
+                        .param("format", "CSV")
+                        .param("courseId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"submissions.csv\""));
+
+        verify(submissionExportService).export(eq(SubmissionExportFormat.CSV), eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("STUDENT darf keine Abgaben exportieren")
+    @WithMockUser(username = "student@uni.de", roles = {"STUDENT"})
+    void exportSubmissions_shouldReturnForbidden_whenStudent() throws Exception {
+        mockMvc.perform(get("/submissions/export"))
+                .andExpect(status().isForbidden());
+
+        verify(submissionExportService, never()).export(any(), any(), any());
+    }
+
     @Test
     @DisplayName("ADMIN darf Abgabe anhand der ID sehen")
     @WithMockUser(username = "admin@system.de", roles = {"ADMIN"})
     void getSubmissionById_shouldReturnOne_whenAuthorized() throws Exception {
         SubmissionResponseDto dto = new SubmissionResponseDto(1L, null, null, Submission.Status.NOT_SUBMITTED, 5.0);
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(submissionService.getSubmissionById(1L)).thenReturn(dto);
 
         mockMvc.perform(get("/submissions/1"))
@@ -88,7 +142,6 @@ public class SubmissionControllerTest {
     @WithMockUser(username = "student@uni.de", roles = {"STUDENT"})
     void createSubmission_shouldCreate_whenStudent() throws Exception {
         SubmissionResponseDto dto = new SubmissionResponseDto(1L, null, null, Submission.Status.NOT_SUBMITTED, 5.0);
-        when(authz.canAccessAny(any(), eq("STUDENT"))).thenReturn(true);
         when(submissionService.saveSubmission(any())).thenReturn(dto);
 
         mockMvc.perform(post("/submissions")
@@ -124,7 +177,6 @@ public class SubmissionControllerTest {
     @DisplayName("ADMIN darf Abgabe löschen")
     @WithMockUser(username = "admin@system.de", roles = {"ADMIN"})
     void deleteSubmission_shouldReturnNoContent_whenAdmin() throws Exception {
-        when(authz.canAccessAny(any(), eq("STUDENT"))).thenReturn(true);
         mockMvc.perform(delete("/submissions/1"))
                 .andExpect(status().isNoContent());
 
@@ -146,7 +198,6 @@ public class SubmissionControllerTest {
     @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
     void getByAssignmentId_shouldReturnList_whenAuthorized() throws Exception {
         SubmissionResponseDto dto = new SubmissionResponseDto(1L, null, null, Submission.Status.NOT_SUBMITTED, 5.0);
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(submissionService.getSubmissionsByAssignmentId(1L)).thenReturn(List.of(dto));
 
         mockMvc.perform(get("/submissions/assignment/1"))
@@ -164,12 +215,38 @@ public class SubmissionControllerTest {
         verify(submissionService, never()).getSubmissionsByAssignmentId(any());
     }
 
+    @Test
+    @DisplayName("TEACHER darf die Statistik eines Assignments sehen")
+    @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
+    void getStatsByAssignmentId_shouldReturnStats_whenTeacher() throws Exception {
+        Map<Submission.Status, Long> counts = new EnumMap<>(Submission.Status.class);
+        counts.put(Submission.Status.NOT_SUBMITTED, 3L);
+        counts.put(Submission.Status.GRADED, 2L);
+        SubmissionStatsDto dto = new SubmissionStatsDto(1L, counts, 2, 1.3, 2.7, 2.0, 2.0);
+        when(submissionService.getStatsByAssignmentId(1L)).thenReturn(dto);
+
+        mockMvc.perform(get("/submissions/assignment/1/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCounts.NOT_SUBMITTED").value(3))
+                .andExpect(jsonPath("$.gradedSubmissions").value(2))
+                .andExpect(jsonPath("$.medianGrade").value(2.0));
+    }
+
+    @Test
+    @DisplayName("STUDENT darf keine Statistik eines Assignments sehen")
+    @WithMockUser(username = "student@uni.de", roles = {"STUDENT"})
+    void getStatsByAssignmentId_shouldReturnForbidden_whenStudent() throws Exception {
+        mockMvc.perform(get("/submissions/assignment/1/stats"))
+                .andExpect(status().isForbidden());
+
+        verify(submissionService, never()).getStatsByAssignmentId(any());
+    }
+
     @Test
     @DisplayName("TEACHER darf Abgaben eines Users sehen")
     @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
     void getByUserId_shouldReturnList_whenTeacher() throws Exception {
         SubmissionResponseDto dto = new SubmissionResponseDto(1L, null, null, Submission.Status.NOT_SUBMITTED, 5.0);
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(submissionService.getSubmissionsByUserId(1L)).thenReturn(List.of(dto));
 
         mockMvc.perform(get("/submissions/user/1"))
@@ -202,7 +279,6 @@ public class SubmissionControllerTest {
     void updateStatus_shouldWork_whenAuthorized() throws Exception {
         SubmissionResponseDto dto = new SubmissionResponseDto(1L, null, null, Submission.Status.SUBMITTED, 5.0);
 
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(submissionService.updateSubmissionStatus(eq(1L), eq(Submission.Status.SUBMITTED))).thenReturn(dto);
 
         mockMvc.perform(put("/submissions/1/status")
@@ -224,13 +300,11 @@ public class SubmissionControllerTest {
         verify(submissionService, never()).updateSubmissionStatus(any(), any());
     }
 
-
     @Test
     @DisplayName("TEACHER darf Note der Abgabe aktualisieren")
     @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
     void updateGrade_shouldWork_whenAuthorized() throws Exception {
         SubmissionResponseDto dto = new SubmissionResponseDto(1L, null, null, Submission.Status.NOT_SUBMITTED, 5.0);
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(submissionService.updateSubmissionGrade(eq(1L), eq(1.0))).thenReturn(dto);
 
         mockMvc.perform(put("/submissions/1/grade")
@@ -251,4 +325,41 @@ public class SubmissionControllerTest {
 
         verify(submissionService, never()).updateSubmissionGrade(any(), any());
     }
+
+    @Test
+    @DisplayName("TEACHER darf Abgaben gebündelt bewerten")
+    @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
+    void updateSubmissions_shouldReturnSummary_whenTeacher() throws Exception {
+        SubmissionBatchUpdateResultDto result = new SubmissionBatchUpdateResultDto(2, 1, List.of(
+                new SubmissionUpdateResultDto(1L, SubmissionUpdateResultDto.Outcome.UPDATED),
+                new SubmissionUpdateResultDto(2L, SubmissionUpdateResultDto.Outcome.NOT_FOUND)));
+        when(submissionService.updateSubmissions(any())).thenReturn(result);
+
+        mockMvc.perform(put("/submissions/batch")
+                        .contentType("application/json")
+                        .content("""
+                                {"changes": [
+                                  {"submissionId": 1, "grade": 1.7, "status": "GRADED"},
+                                  {"submissionId": 2, "grade": 2.0}
+                                ]}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+
+        verify(submissionService).updateSubmissions(new SubmissionBatchUpdateRequestDto(List.of(
+                new SubmissionUpdateDto(1L, 1.7, Submission.Status.GRADED),
+                new SubmissionUpdateDto(2L, 2.0, null))));
+    }
+
+    @Test
+    @DisplayName("STUDENT darf Abgaben nicht gebündelt ändern")
+    @WithMockUser(username = "student@uni.de", roles = {"STUDENT"})
+    void updateSubmissions_shouldReturnForbidden_whenStudent() throws Exception {
+        mockMvc.perform(put("/submissions/batch")
+                        .contentType("application/json")
+                        .content("{\"changes\": [{\"submissionId\": 1, \"grade\": 1.0}]}"))
+                .andExpect(status().isForbidden());
+
+        verify(submissionService, never()).updateSubmissions(any());
+    }
 }
@@ -0,0 +1,112 @@
+package com.training.studienplaner.submission;
+
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.assignment.AssignmentRepository;
+import com.training.studienplaner.course.Course;
+import com.training.studienplaner.course.CourseRepository;
+import com.training.studienplaner.user.User;
+import com.training.studienplaner.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SubmissionExportService.class, JacksonAutoConfiguration.class})
+class SubmissionExportServiceTest {
+
+    @Autowired
+    private SubmissionExportService submissionExportService;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        course = courseRepository.save(Course.builder()
+                .title("Analysis")
+                .description("Course Description")
+                .ects((short) 5)
+                .build());
+        Assignment assignment = assignmentRepository.save(Assignment.builder()
+                .title("Blatt 1, Aufgabe \"A\"")
+                .description("Assignment Description")
+                .type(Assignment.AssignmentType.HOMEWORK)
+                .deadline(LocalDateTime.now().plusDays(7))
+                .course(course)
+                .build());
+        User student = userRepository.save(User.builder()
+                .name("Erika")
+                .surname("Mustermann")
+                .role(User.Role.STUDENT)
+                .email("erika@example.com")
+                .password("password")
+                .coursesList(Set.of(course))
+                .build());
+        submissionRepository.saveAndFlush(Submission.builder()
+                .assignment(assignment)
+                .student(student)
+                .status(Submission.Status.GRADED)
+                .grade(1.3)
+                .build());
+    }
+
+    @Test
+    @DisplayName("NDJSON-Export: eine JSON-Zeile pro Abgabe")
+    void export_shouldWriteOneJsonLinePerSubmission() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        submissionExportService.export(SubmissionExportFormat.NDJSON, null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(lines[0]).contains("\"studentEmail\":\"erika@example.com\"", "\"status\":\"GRADED\"", "\"grade\":1.3");
+    }
+
+    @Test
+    @DisplayName("CSV-Export: Kopfzeile und maskierte Felder")
+    void export_shouldWriteCsvWithHeaderAndQuotedFields() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        submissionExportService.export(SubmissionExportFormat.CSV, course.getCourseId(), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("submissionId,assignmentId,assignmentTitle");
+        assertThat(lines[1]).contains("\"Blatt 1, Aufgabe \"\"A\"\"\"", "Mustermann", "GRADED", "1.3");
+    }
+
+    @Test
+    @DisplayName("CSV-Export: nur Kopfzeile für unbekannten Kurs")
+    void export_shouldWriteOnlyHeader_whenCourseHasNoSubmissions() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        submissionExportService.export(SubmissionExportFormat.CSV, 999L, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).hasSize(1);
+    }
+}
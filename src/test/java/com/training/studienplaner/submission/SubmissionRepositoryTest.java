@@ -10,13 +10,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@ActiveProfiles("test")
 class SubmissionRepositoryTest {
 
     @Autowired
@@ -58,7 +62,7 @@ class SubmissionRepositoryTest {
                 .role(User.Role.STUDENT)
                 .email("student@example.com")
                 .password("password")
-                .coursesList(List.of(course))
+                .coursesList(Set.of(course))
                 .build();
         return userRepository.save(user);
     }
@@ -73,6 +77,44 @@ class SubmissionRepositoryTest {
         return submissionRepository.save(submission);
     }
 
+    @Test
+    @DisplayName("insertPlaceholders: IDs sollen nicht mit später vergebenen Sequenzwerten kollidieren")
+    void shouldNotReuseIdsAfterPlaceholderInsert() {
+        Course course = prepareCourse();
+        Assignment assignment = prepareAssignment(course);
+        User student = prepareStudent(course);
+        Submission before = prepareSubmission(assignment, student);
+
+        submissionRepository.insertPlaceholders(
+                assignment.getAssignmentId(), User.Role.STUDENT, Submission.Status.NOT_SUBMITTED);
+        Submission after = prepareSubmission(assignment, student);
+        submissionRepository.flush();
+
+        List<Long> ids = submissionRepository.findByAssignmentAssignmentId(assignment.getAssignmentId()).stream()
+                .map(Submission::getSubmissionId)
+                .toList();
+        assertThat(ids).hasSize(3).doesNotHaveDuplicates()
+                .contains(before.getSubmissionId(), after.getSubmissionId());
+    }
+
+    @Test
+    @DisplayName("findAllByIdForUpdate: sollte die angefragten Abgaben sperrend und nach ID sortiert liefern")
+    void shouldLockRequestedSubmissionsInIdOrder() {
+        Course course = prepareCourse();
+        Assignment assignment = prepareAssignment(course);
+        User student = prepareStudent(course);
+        Submission first = prepareSubmission(assignment, student);
+        Submission second = prepareSubmission(assignment, student);
+        prepareSubmission(assignment, student);
+        submissionRepository.flush();
+
+        List<Submission> locked = submissionRepository.findAllByIdForUpdate(
+                List.of(second.getSubmissionId(), first.getSubmissionId(), 999L));
+
+        assertThat(locked).extracting(Submission::getSubmissionId)
+                .containsExactly(first.getSubmissionId(), second.getSubmissionId());
+    }
+
     @Test
     @DisplayName("findByAssignmentAssignmentId: sollte alle Abgaben für eine bestimmte Aufgabe finden")
     void shouldFindSubmissionsByAssignmentId() {
@@ -116,4 +158,70 @@ class SubmissionRepositoryTest {
 
         assertThat(submissions).isEmpty();
     }
+
+    @Test
+    @DisplayName("insertPlaceholders: sollte für jeden eingeschriebenen Studenten eine NOT_SUBMITTED-Abgabe anlegen")
+    void shouldInsertPlaceholdersForEnrolledStudents() {
+        Course course = prepareCourse();
+        Assignment assignment = prepareAssignment(course);
+        for (int i = 0; i < 3; i++) {
+            userRepository.save(User.builder()
+                    .name("Student" + i)
+                    .surname("Test")
+                    .role(User.Role.STUDENT)
+                    .email("student" + i + "@example.com")
+                    .password("password")
+                    .coursesList(Set.of(course))
+                    .build());
+        }
+        userRepository.save(User.builder()
+                .name("Teacher")
+                .surname("Test")
+                .role(User.Role.TEACHER)
+                .email("teacher@example.com")
+                .password("password")
+                .coursesList(Set.of(course))
+                .build());
+
+        int inserted = submissionRepository.insertPlaceholders(
+                assignment.getAssignmentId(), User.Role.STUDENT, Submission.Status.NOT_SUBMITTED);
+
+        List<Submission> submissions = submissionRepository.findByAssignmentAssignmentId(assignment.getAssignmentId());
+        assertThat(inserted).isEqualTo(3);
+        assertThat(submissions).hasSize(3)
+                .allMatch(submission -> submission.getStatus() == Submission.Status.NOT_SUBMITTED)
+                .allMatch(submission -> submission.getStudent().getRole() == User.Role.STUDENT);
+    }
+
+    @Test
+    @DisplayName("insertPlaceholders: sollte nichts anlegen, wenn der Kurs keine Studenten hat")
+    void shouldNotInsertPlaceholdersWithoutStudents() {
+        Course course = prepareCourse();
+        Assignment assignment = prepareAssignment(course);
+
+        int inserted = submissionRepository.insertPlaceholders(
+                assignment.getAssignmentId(), User.Role.STUDENT, Submission.Status.NOT_SUBMITTED);
+
+        assertThat(inserted).isZero();
+    }
+
+    @Test
+    @DisplayName("findBy: sollte Abgaben nach Cursor und Filter seitenweise liefern")
+    void shouldFindSubmissionsByKeysetAndFilter() {
+        Course course = prepareCourse();
+        Assignment assignment = prepareAssignment(course);
+        User student = prepareStudent(course);
+        Submission first = prepareSubmission(assignment, student);
+        Submission second = prepareSubmission(assignment, student);
+        Submission third = prepareSubmission(assignment, student);
+        third.setStatus(Submission.Status.GRADED);
+        submissionRepository.save(third);
+
+        SubmissionFilter filter = new SubmissionFilter(Submission.Status.SUBMITTED, assignment.getAssignmentId(),
+                student.getUserId(), null, null);
+        List<Submission> page = submissionRepository.findBy(filter.toSpecification(first.getSubmissionId()),
+                query -> query.sortBy(Sort.by("submissionId")).limit(10).all());
+
+        assertThat(page).extracting(Submission::getSubmissionId).containsExactly(second.getSubmissionId());
+    }
 }
@@ -2,6 +2,7 @@ package com.training.studienplaner.submission;
 
 import com.training.studienplaner.assignment.Assignment;
 import com.training.studienplaner.assignment.AssignmentRepository;
+import com.training.studienplaner.cache.EntityChangeEvent;
 import com.training.studienplaner.user.User;
 import com.training.studienplaner.user.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.*;
 
@@ -30,6 +33,12 @@ class SubmissionServiceTest {
     @Mock
     private SubmissionMapper submissionMapper;
 
+    @Mock
+    private SubmissionStatsService submissionStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SubmissionService submissionService;
 
@@ -39,13 +48,45 @@ class SubmissionServiceTest {
         Submission entity = new Submission();
         SubmissionResponseDto dto = new SubmissionResponseDto(1L, null, null, Submission.Status.NOT_SUBMITTED, 5.0);
 
-        when(submissionRepository.findAll()).thenReturn(List.of(entity));
+        when(submissionRepository.findBy(any(Specification.class), any())).thenReturn(List.of(entity));
         when(submissionMapper.toResponseDto(List.of(entity))).thenReturn(List.of(dto));
 
         List<SubmissionResponseDto> result = submissionService.getAllSubmissions();
 
         assertEquals(1, result.size());
-        verify(submissionRepository).findAll();
+        verify(submissionRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Seite soll einen Cursor liefern, wenn weitere Abgaben existieren")
+    void getSubmissionPage_shouldReturnNextCursor_whenMoreResultsExist() {
+        Submission first = Submission.builder().submissionId(10L).build();
+        Submission second = Submission.builder().submissionId(11L).build();
+        Submission third = Submission.builder().submissionId(12L).build();
+        SubmissionResponseDto dto = new SubmissionResponseDto(10L, null, null, Submission.Status.NOT_SUBMITTED, null);
+
+        when(submissionRepository.findBy(any(Specification.class), any())).thenReturn(List.of(first, second, third));
+        when(submissionMapper.toResponseDto(List.of(first, second))).thenReturn(List.of(dto, dto));
+
+        SubmissionPageDto result = submissionService.getSubmissionPage(SubmissionFilter.none(), 9L, 2);
+
+        assertEquals(2, result.items().size());
+        assertEquals(11L, result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Letzte Seite soll keinen Cursor liefern")
+    void getSubmissionPage_shouldReturnNoCursor_onLastPage() {
+        Submission only = Submission.builder().submissionId(10L).build();
+        SubmissionResponseDto dto = new SubmissionResponseDto(10L, null, null, Submission.Status.NOT_SUBMITTED, null);
+
+        when(submissionRepository.findBy(any(Specification.class), any())).thenReturn(List.of(only));
+        when(submissionMapper.toResponseDto(List.of(only))).thenReturn(List.of(dto));
+
+        SubmissionPageDto result = submissionService.getSubmissionPage(SubmissionFilter.none(), null, 50);
+
+        assertEquals(1, result.items().size());
+        assertNull(result.nextCursor());
     }
 
     @Test
@@ -90,7 +131,7 @@ class SubmissionServiceTest {
     @DisplayName("Abgabe soll gelöscht werden")
     void deleteSubmission_shouldRemove() {
         Submission entity = new Submission();
-        when(submissionRepository.findById(1L)).thenReturn(Optional.of(entity));
+        when(submissionRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(entity));
 
         submissionService.deleteSubmissionById(1L);
 
@@ -103,7 +144,7 @@ class SubmissionServiceTest {
         Submission entity = spy(new Submission());
         SubmissionResponseDto dto = new SubmissionResponseDto(1L, null, null, Submission.Status.SUBMITTED, 5.0);
 
-        when(submissionRepository.findById(1L)).thenReturn(Optional.of(entity));
+        when(submissionRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(entity));
         when(submissionRepository.save(entity)).thenReturn(entity);
         when(submissionMapper.toResponseDto(entity)).thenReturn(dto);
 
@@ -111,6 +152,8 @@ class SubmissionServiceTest {
 
         assertNotNull(result);
         verify(entity).setStatus(Submission.Status.SUBMITTED);
+        verify(submissionStatsService).submissionChanged(null,
+                Submission.Status.NOT_SUBMITTED, null, Submission.Status.SUBMITTED, null);
     }
 
     @Test
@@ -119,7 +162,7 @@ class SubmissionServiceTest {
         Submission entity = spy(new Submission());
         SubmissionResponseDto dto = new SubmissionResponseDto(1L, null, null, Submission.Status.NOT_SUBMITTED, 5.0);
 
-        when(submissionRepository.findById(1L)).thenReturn(Optional.of(entity));
+        when(submissionRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(entity));
         when(submissionRepository.save(entity)).thenReturn(entity);
         when(submissionMapper.toResponseDto(entity)).thenReturn(dto);
 
@@ -127,6 +170,8 @@ class SubmissionServiceTest {
 
         assertNotNull(result);
         verify(entity).setGrade((Double) 2.0);
+        verify(submissionStatsService).submissionChanged(null,
+                Submission.Status.NOT_SUBMITTED, null, Submission.Status.NOT_SUBMITTED, 2.0);
     }
 
     @Test
@@ -154,4 +199,58 @@ class SubmissionServiceTest {
         var result = submissionService.getSubmissionsByUserId(1L);
         assertEquals(1, result.size());
     }
+
+    @Test
+    @DisplayName("Platzhalter-Abgaben sollen per Bulk-Insert erzeugt werden")
+    void generateSubmissionsForAssignment_shouldReturnInsertedCount() {
+        Assignment assignment = new Assignment();
+        assignment.setAssignmentId(1L);
+
+        when(submissionRepository.insertPlaceholders(1L, User.Role.STUDENT, Submission.Status.NOT_SUBMITTED))
+                .thenReturn(1500);
+
+        int result = submissionService.generateSubmissionsForAssignment(assignment);
+
+        assertEquals(1500, result);
+        verify(submissionRepository, never()).saveAll(any());
+        verify(submissionStatsService).submissionsAdded(1L, Submission.Status.NOT_SUBMITTED, null, 1500);
+    }
+
+    @Test
+    @DisplayName("Gebündelte Änderungen sollen je Abgabe ein Ergebnis liefern")
+    void updateSubmissions_shouldApplyChangesAndReportOutcomes() {
+        Assignment assignment = new Assignment();
+        assignment.setAssignmentId(7L);
+        Submission first = Submission.builder().submissionId(1L).assignment(assignment).build();
+        Submission graded = Submission.builder().submissionId(2L).assignment(assignment)
+                .status(Submission.Status.GRADED).grade(1.0).build();
+        when(submissionRepository.findAllByIdForUpdate(List.of(1L, 2L, 3L))).thenReturn(List.of(first, graded));
+
+        SubmissionBatchUpdateResultDto result = submissionService.updateSubmissions(new SubmissionBatchUpdateRequestDto(List.of(
+                new SubmissionUpdateDto(1L, 2.3, Submission.Status.GRADED),
+                new SubmissionUpdateDto(2L, 1.0, null),
+                new SubmissionUpdateDto(3L, 1.0, null),
+                new SubmissionUpdateDto(1L, null, null))));
+
+        assertEquals(4, result.requested());
+        assertEquals(1, result.updated());
+        assertEquals(List.of(SubmissionUpdateResultDto.Outcome.UPDATED, SubmissionUpdateResultDto.Outcome.UNCHANGED,
+                        SubmissionUpdateResultDto.Outcome.NOT_FOUND, SubmissionUpdateResultDto.Outcome.INVALID),
+                result.results().stream().map(SubmissionUpdateResultDto::outcome).toList());
+        assertEquals(Submission.Status.GRADED, first.getStatus());
+        assertEquals(2.3, first.getGrade());
+        verify(submissionStatsService).submissionsChanged(List.of(new SubmissionStatsService.Change(7L,
+                Submission.Status.NOT_SUBMITTED, null, Submission.Status.GRADED, 2.3)));
+        verify(eventPublisher).publishEvent(EntityChangeEvent.submission(null, 7L));
+        verify(submissionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Leere Liste von Änderungen soll abgelehnt werden")
+    void updateSubmissions_shouldRejectEmptyList() {
+        assertThrows(IllegalArgumentException.class,
+                () -> submissionService.updateSubmissions(new SubmissionBatchUpdateRequestDto(List.of())));
+
+        verifyNoInteractions(submissionRepository);
+    }
 }
@@ -0,0 +1,72 @@
+package com.training.studienplaner.submission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SubmissionStatsService.class)
+class SubmissionStatsRepositoryTest {
+
+    @Autowired
+    private SubmissionStatsService submissionStatsService;
+
+    @Autowired
+    private SubmissionStatsRepository statsRepository;
+
+    @Autowired
+    private SubmissionGradeCountRepository gradeCountRepository;
+
+    @Test
+    @DisplayName("Zähler und Notenverteilung sollen inkrementell fortgeschrieben werden")
+    void shouldMaintainCountsAndHistogram() {
+        submissionStatsService.submissionsAdded(1L, Submission.Status.NOT_SUBMITTED, null, 4);
+        submissionStatsService.submissionChanged(1L, Submission.Status.NOT_SUBMITTED, null, Submission.Status.GRADED, 2.3);
+        submissionStatsService.submissionChanged(1L, Submission.Status.NOT_SUBMITTED, null, Submission.Status.GRADED, 1.0);
+        submissionStatsService.submissionChanged(1L, Submission.Status.NOT_SUBMITTED, null, Submission.Status.GRADED, 2.3);
+        submissionStatsService.submissionChanged(1L, Submission.Status.GRADED, 2.3, Submission.Status.GRADED, 4.0);
+        gradeCountRepository.flush();
+
+        SubmissionStatsDto stats = submissionStatsService.getStats(1L);
+
+        assertThat(stats.statusCounts())
+                .containsEntry(Submission.Status.NOT_SUBMITTED, 1L)
+                .containsEntry(Submission.Status.GRADED, 3L)
+                .containsEntry(Submission.Status.SUBMITTED, 0L);
+        assertThat(stats.gradedSubmissions()).isEqualTo(3);
+        assertThat(stats.minGrade()).isEqualTo(1.0);
+        assertThat(stats.maxGrade()).isEqualTo(4.0);
+        assertThat(stats.medianGrade()).isEqualTo(2.3);
+        assertThat(gradeCountRepository.findByIdAssignmentIdOrderByIdGradeAsc(1L))
+                .extracting(bucket -> bucket.getId().getGrade())
+                .containsExactly(1.0, 2.3, 4.0);
+    }
+
+    @Test
+    @DisplayName("findForUpdate: sollte die Statistikzeile sperrend lesen")
+    void shouldLockStatsRow() {
+        statsRepository.saveAndFlush(AssignmentSubmissionStats.builder().assignmentId(2L).submitted(3).build());
+
+        assertThat(statsRepository.findForUpdate(2L))
+                .hasValueSatisfying(stats -> assertThat(stats.getSubmitted()).isEqualTo(3));
+        assertThat(statsRepository.findForUpdate(3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("insertIfAbsent: sollte eine vorhandene Statistikzeile unverändert lassen")
+    void shouldInsertStatsRowOnlyOnce() {
+        assertThat(statsRepository.insertIfAbsent(4L)).isEqualTo(1);
+        statsRepository.findForUpdate(4L).orElseThrow().setGraded(2);
+        statsRepository.flush();
+
+        assertThat(statsRepository.insertIfAbsent(4L)).isZero();
+        assertThat(statsRepository.findForUpdate(4L))
+                .hasValueSatisfying(stats -> assertThat(stats.getGraded()).isEqualTo(2));
+    }
+}
@@ -0,0 +1,127 @@
+package com.training.studienplaner.submission;
+
+import com.training.studienplaner.assignment.AssignmentRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionStatsServiceTest {
+
+    @Mock
+    private SubmissionStatsRepository statsRepository;
+
+    @Mock
+    private SubmissionGradeCountRepository gradeCountRepository;
+
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    @InjectMocks
+    private SubmissionStatsService submissionStatsService;
+
+    private static SubmissionGradeCount bucket(double grade, long submissions) {
+        return new SubmissionGradeCount(new SubmissionGradeCount.Key(1L, grade), submissions);
+    }
+
+    @Test
+    @DisplayName("Kennzahlen sollen aus der Notenverteilung berechnet werden")
+    void toDto_shouldDeriveGradeStatisticsFromHistogram() {
+        SubmissionStatsDto stats = SubmissionStatsService.toDto(1L, new EnumMap<>(Submission.Status.class),
+                List.of(bucket(1.0, 1), bucket(2.0, 2), bucket(4.0, 1)));
+
+        assertEquals(4, stats.gradedSubmissions());
+        assertEquals(1.0, stats.minGrade());
+        assertEquals(4.0, stats.maxGrade());
+        assertEquals(2.25, stats.meanGrade());
+        assertEquals(2.0, stats.medianGrade());
+    }
+
+    @Test
+    @DisplayName("Median soll bei gerader Anzahl zwischen den mittleren Noten liegen")
+    void toDto_shouldAverageMiddleGrades_whenCountIsEven() {
+        SubmissionStatsDto stats = SubmissionStatsService.toDto(1L, new EnumMap<>(Submission.Status.class),
+                List.of(bucket(1.0, 2), bucket(3.0, 2)));
+
+        assertEquals(2.0, stats.medianGrade());
+        assertEquals(2.0, stats.meanGrade());
+    }
+
+    @Test
+    @DisplayName("Ohne Noten sollen die Notenkennzahlen leer sein")
+    void toDto_shouldReturnNoGradeStatistics_whenNothingIsGraded() {
+        SubmissionStatsDto stats = SubmissionStatsService.toDto(1L, new EnumMap<>(Submission.Status.class), List.of());
+
+        assertEquals(0, stats.gradedSubmissions());
+        assertNull(stats.medianGrade());
+        assertNull(stats.minGrade());
+    }
+
+    @Test
+    @DisplayName("Neue Note soll Zähler und Notenverteilung verschieben")
+    void submissionChanged_shouldMoveCountsAndGradeBucket() {
+        AssignmentSubmissionStats stats = AssignmentSubmissionStats.builder().assignmentId(1L).submitted(1).build();
+        SubmissionGradeCount oldBucket = bucket(2.0, 1);
+        when(statsRepository.findForUpdate(1L)).thenReturn(Optional.of(stats));
+        when(gradeCountRepository.findById(oldBucket.getId())).thenReturn(Optional.of(oldBucket));
+        when(gradeCountRepository.findById(new SubmissionGradeCount.Key(1L, 1.3))).thenReturn(Optional.empty());
+
+        submissionStatsService.submissionChanged(1L,
+                Submission.Status.SUBMITTED, 2.0, Submission.Status.GRADED, 1.3);
+
+        assertEquals(0, stats.getSubmitted());
+        assertEquals(1, stats.getGraded());
+        verify(gradeCountRepository).delete(oldBucket);
+        verify(gradeCountRepository).save(argThat(saved ->
+                saved.getId().getGrade() == 1.3 && saved.getSubmissions() == 1));
+    }
+
+    @Test
+    @DisplayName("Fehlende Statistikzeile soll konfliktfrei angelegt und dann gesperrt werden")
+    void submissionsAdded_shouldInsertMissingRowBeforeLocking() {
+        AssignmentSubmissionStats stats = AssignmentSubmissionStats.builder().assignmentId(1L).build();
+        when(statsRepository.findForUpdate(1L)).thenReturn(Optional.empty(), Optional.of(stats));
+
+        submissionStatsService.submissionsAdded(1L, Submission.Status.NOT_SUBMITTED, null, 3);
+
+        InOrder inOrder = inOrder(statsRepository);
+        inOrder.verify(statsRepository).findForUpdate(1L);
+        inOrder.verify(statsRepository).insertIfAbsent(1L);
+        inOrder.verify(statsRepository).findForUpdate(1L);
+        verify(statsRepository, never()).save(any());
+        assertEquals(3, stats.getNotSubmitted());
+    }
+
+    @Test
+    @DisplayName("Unveränderte Abgabe soll die Statistik nicht sperren")
+    void submissionChanged_shouldSkipUnchangedSubmission() {
+        submissionStatsService.submissionChanged(1L,
+                Submission.Status.GRADED, 2.0, Submission.Status.GRADED, 2.0);
+
+        verifyNoInteractions(statsRepository, gradeCountRepository);
+    }
+
+    @Test
+    @DisplayName("Soll Exception werfen, wenn das Assignment nicht existiert")
+    void getStats_shouldThrow_whenAssignmentDoesNotExist() {
+        when(statsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(assignmentRepository.existsById(1L)).thenReturn(false);
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> submissionStatsService.getStats(1L));
+
+        assertEquals("Assignment not found", exception.getMessage());
+    }
+}
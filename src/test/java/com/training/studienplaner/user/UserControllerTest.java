@@ -2,7 +2,6 @@ package com.training.studienplaner.user;
 
 import com.training.studienplaner.course.CourseMapper;
 import com.training.studienplaner.course.CourseResponseDto;
-import com.training.studienplaner.security.AuthorizationService;
 import com.training.studienplaner.security.CustomUserDetails;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
@@ -13,17 +12,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -44,9 +44,6 @@ public class UserControllerTest {
     @MockBean
     private CourseMapper courseMapper;
 
-    @MockBean(name = "authz")
-    AuthorizationService authz;
-
     @Test
     @DisplayName("Neuen User soll erstellt werden")
     void createUser_shouldCreateUser_andReturnCreated() throws Exception {
@@ -69,7 +66,6 @@ public class UserControllerTest {
     void getAllUsers_shouldReturnAllUsers_whenAuthorized() throws Exception {
         UserResponseDto responseDto = mock(UserResponseDto.class);
 
-        when(authz.canAccessAny(any(Authentication.class))).thenReturn(true);
         when(userService.getAll()).thenReturn(List.of(responseDto));
 
         mockMvc.perform(get("/users"))
@@ -84,7 +80,6 @@ public class UserControllerTest {
     void getUser_shouldReturnUser_whenTeacherAuthorized() throws Exception {
         UserResponseDto responseDto = mock(UserResponseDto.class);
 
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(userService.getById(1L)).thenReturn(responseDto);
 
         mockMvc.perform(get("/users/1"))
@@ -97,8 +92,6 @@ public class UserControllerTest {
     @DisplayName("STUDENT darf keinen anderen User sehen")
     @WithMockUser(username = "student@uni.de", roles = {"STUDENT"})
     void getUser_shouldReturnForbidden_whenStudent() throws Exception {
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(false);
-
         mockMvc.perform(get("/users/1"))
                 .andExpect(status().isForbidden());
 
@@ -109,7 +102,6 @@ public class UserControllerTest {
     @DisplayName("404 wenn User nicht gefunden wird (für TEACHER)")
     @WithMockUser(username = "teacher@uni.de", roles = {"TEACHER"})
     void getUser_shouldReturnNotFound_whenDoesNotExist() throws Exception {
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(userService.getById(1L)).thenThrow(new EntityNotFoundException("User not found"));
 
         mockMvc.perform(get("/users/1"))
@@ -123,7 +115,6 @@ public class UserControllerTest {
     @DisplayName("ADMIN darf User löschen")
     @WithMockUser(username = "admin@system.de", roles = {"ADMIN"})
     void deleteUser_shouldDeleteUser_andReturnNoContent_whenAuthorized() throws Exception {
-        when(authz.canAccessAny(any())).thenReturn(true);
         mockMvc.perform(delete("/users/1"))
                 .andExpect(status().isNoContent());
 
@@ -144,7 +135,6 @@ public class UserControllerTest {
     @DisplayName("404 wenn User beim Löschen nicht gefunden wird (für ADMIN)")
     @WithMockUser(username = "admin@system.de", roles = {"ADMIN"})
     void deleteUser_shouldReturnNotFound_whenDoesNotExist() throws Exception {
-        when(authz.canAccessAny(any())).thenReturn(true);
         doThrow(new EntityNotFoundException("User not found"))
                 .when(userService).deleteById(1L);
 
@@ -155,13 +145,39 @@ public class UserControllerTest {
         verify(userService).deleteById(1L);
     }
 
+    @Test
+    @DisplayName("ADMIN darf die Rolle eines Users ändern")
+    @WithMockUser(username = "admin@system.de", roles = {"ADMIN"})
+    void changeRole_shouldReturnOk_whenAdmin() throws Exception {
+        UserResponseDto responseDto = mock(UserResponseDto.class);
+        when(userService.changeRole(1L, User.Role.TEACHER)).thenReturn(responseDto);
+
+        mockMvc.perform(put("/users/1/role")
+                        .contentType("application/json")
+                        .content("\"TEACHER\""))
+                .andExpect(status().isOk());
+
+        verify(userService).changeRole(1L, User.Role.TEACHER);
+    }
+
+    @Test
+    @DisplayName("TEACHER darf keine Rollen ändern")
+    @WithMockUser(username = "teacher@schule.de", roles = {"TEACHER"})
+    void changeRole_shouldReturnForbidden_whenTeacher() throws Exception {
+        mockMvc.perform(put("/users/1/role")
+                        .contentType("application/json")
+                        .content("\"ADMIN\""))
+                .andExpect(status().isForbidden());
+
+        verify(userService, never()).changeRole(any(), any());
+    }
+
     @Test
     @DisplayName("TEACHER darf alle Studenten sehen")
     @WithMockUser(username = "teacher@uni.de", roles = {"TEACHER"})
     void getStudents_shouldReturnStudents_whenAuthorized() throws Exception {
         UserResponseDto responseDto = mock(UserResponseDto.class);
 
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(userService.findUsersByRole(User.Role.STUDENT)).thenReturn(List.of(responseDto));
 
         mockMvc.perform(get("/users/students"))
@@ -184,7 +200,6 @@ public class UserControllerTest {
     @DisplayName("404 wenn keine Studenten gefunden werden (für TEACHER)")
     @WithMockUser(username = "teacher@uni.de", roles = {"TEACHER"})
     void getStudents_shouldReturnNotFound_whenNoStudentsExist() throws Exception {
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(userService.findUsersByRole(User.Role.STUDENT))
                 .thenThrow(new EntityNotFoundException("No students found"));
 
@@ -201,7 +216,6 @@ public class UserControllerTest {
     void getUserByEmail_shouldReturnUser_whenAuthorized() throws Exception {
         UserResponseDto responseDto = mock(UserResponseDto.class);
 
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(userService.findByEmail("test@example.com")).thenReturn(responseDto);
 
         mockMvc.perform(get("/users/email/test@example.com"))
@@ -232,7 +246,6 @@ public class UserControllerTest {
 
         CustomUserDetails userDetails = new CustomUserDetails(mockUser);
 
-        when(authz.canAccessAny(any(), eq("TEACHER"))).thenReturn(true);
         when(userService.findByEmail("test@example.com"))
                 .thenThrow(new EntityNotFoundException("User not found"));
 
@@ -244,7 +257,6 @@ public class UserControllerTest {
         verify(userService).findByEmail("test@example.com");
     }
 
-
     @Test
     @DisplayName("ADMIN darf alle Kurse eines Users sehen")
     void getUserCourses_shouldReturnCourses_whenAuthorized() throws Exception {
@@ -334,4 +346,45 @@ public class UserControllerTest {
 
         verify(userService, never()).enrollUserToCourse(any(), any());
     }
+
+    @Test
+    @DisplayName("STUDENT darf die eigenen Fristen seitenweise abrufen")
+    void getUserDeadlines_shouldReturnPage_whenStudentAccessesSelf() throws Exception {
+        User mockUser = User.builder()
+                .userId(1L)
+                .email("student@uni.de")
+                .password("dummy")
+                .role(User.Role.STUDENT)
+                .build();
+        LocalDateTime from = LocalDateTime.of(2025, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 4, 1, 0, 0);
+        DeadlineCursor cursor = new DeadlineCursor(LocalDateTime.of(2025, 3, 2, 12, 0), 5L);
+        DeadlineDto deadline = new DeadlineDto(7L, "Blatt 3", null, LocalDateTime.of(2025, 3, 3, 23, 59),
+                1L, "Mathe", 11L, null, null);
+        when(userService.getDeadlines(1L, from, to, cursor, 10))
+                .thenReturn(new DeadlinePageDto(List.of(deadline), new DeadlineCursor(deadline.deadline(), 7L)));
+
+        mockMvc.perform(get("/users/1/deadlines")
+                        .param("from", "2025-03-01T00:00:00")
+                        .param("to", "2025-04-01T00:00:00")
+                        .param("afterDeadline", "2025-03-02T12:00:00")
+                        .param("afterAssignmentId", "5")
+                        .param("limit", "10")
+                        .with(user(new CustomUserDetails(mockUser))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].assignmentId").value(7))
+                .andExpect(jsonPath("$.nextCursor.afterAssignmentId").value(7));
+
+        verify(userService).getDeadlines(1L, from, to, cursor, 10);
+    }
+
+    @Test
+    @DisplayName("STUDENT darf keine fremden Fristen sehen")
+    @WithMockUser(username = "student@uni.de", roles = {"STUDENT"})
+    void getUserDeadlines_shouldReturnForbidden_whenStudentAccessesOtherUser() throws Exception {
+        mockMvc.perform(get("/users/1/deadlines"))
+                .andExpect(status().isForbidden());
+
+        verify(userService, never()).getDeadlines(any(), any(), any(), any(), anyInt());
+    }
 }
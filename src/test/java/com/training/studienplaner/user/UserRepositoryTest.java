@@ -1,23 +1,45 @@
 package com.training.studienplaner.user;
 
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.assignment.AssignmentRepository;
+import com.training.studienplaner.course.Course;
+import com.training.studienplaner.course.CourseRepository;
+import com.training.studienplaner.submission.Submission;
+import com.training.studienplaner.submission.SubmissionRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
+@ActiveProfiles("test")
 class UserRepositoryTest {
 
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
     @Test
     @DisplayName("FindByEmail: sollte Benutzer per E-Mail finden")
     void shouldFindUserByEmail() {
@@ -28,7 +50,7 @@ class UserRepositoryTest {
                 .role(User.Role.STUDENT)
                 .email("email@example.com")
                 .password("securePassword")
-                .coursesList(new ArrayList<>())
+                .coursesList(new HashSet<>())
                 .build();
 
         userRepository.save(user);
@@ -52,7 +74,7 @@ class UserRepositoryTest {
                 .role(User.Role.STUDENT)
                 .email("not_existing@mail.com")
                 .password("securePassword")
-                .coursesList(new ArrayList<>())
+                .coursesList(new HashSet<>())
                 .build();
 
         userRepository.save(user);
@@ -87,7 +109,7 @@ class UserRepositoryTest {
                 .role(User.Role.STUDENT)
                 .email("student1@example.com")
                 .password("password")
-                .coursesList(new ArrayList<>())
+                .coursesList(new HashSet<>())
                 .build();
 
         User student2 = User.builder()
@@ -96,7 +118,7 @@ class UserRepositoryTest {
                 .role(User.Role.STUDENT)
                 .email("student2@example.com")
                 .password("password")
-                .coursesList(new ArrayList<>())
+                .coursesList(new HashSet<>())
                 .build();
 
         User teacher = User.builder()
@@ -105,7 +127,7 @@ class UserRepositoryTest {
                 .role(User.Role.TEACHER)
                 .email("teacher@example.com")
                 .password("password")
-                .coursesList(new ArrayList<>())
+                .coursesList(new HashSet<>())
                 .build();
 
         userRepository.save(student1);
@@ -131,7 +153,7 @@ class UserRepositoryTest {
                 .role(User.Role.TEACHER)
                 .email("teacher@example.com")
                 .password("password")
-                .coursesList(new ArrayList<>())
+                .coursesList(new HashSet<>())
                 .build();
 
         userRepository.save(teacher);
@@ -153,5 +175,103 @@ class UserRepositoryTest {
         assertTrue(students.isEmpty());
     }
 
-}
+    @Test
+    @DisplayName("FindDeadlines: sollte Fristen der belegten Kurse nach Frist und Id sortiert liefern")
+    void shouldFindDeadlinesOfEnrolledCoursesInKeysetOrder() {
+        // given
+        Course math = courseRepository.save(Course.builder().title("Mathe").build());
+        Course physics = courseRepository.save(Course.builder().title("Physik").build());
+        Course other = courseRepository.save(Course.builder().title("Chemie").build());
+        User student = userRepository.save(User.builder()
+                .name("Student")
+                .surname("Test")
+                .role(User.Role.STUDENT)
+                .email("deadlines@example.com")
+                .password("password")
+                .coursesList(new HashSet<>(List.of(math, physics)))
+                .build());
 
+        Assignment past = saveAssignment("Vergangen", math, NOW.minusDays(1));
+        Assignment first = saveAssignment("Erste", physics, NOW.plusDays(1));
+        Assignment second = saveAssignment("Zweite", math, NOW.plusDays(2));
+        Assignment sameDeadline = saveAssignment("Dritte", physics, NOW.plusDays(2));
+        saveAssignment("Fremd", other, NOW.plusDays(1));
+        saveAssignment("Zu spät", math, NOW.plusDays(30));
+        submissionRepository.save(Submission.builder()
+                .assignment(second)
+                .student(student)
+                .status(Submission.Status.GRADED)
+                .grade(1.3)
+                .build());
+
+        // when
+        List<DeadlineDto> firstPage = userRepository.findDeadlines(
+                student.getUserId(), NOW, Long.MIN_VALUE, NOW.plusDays(7), Limit.of(2));
+        DeadlineDto lastOfFirstPage = firstPage.get(firstPage.size() - 1);
+        List<DeadlineDto> secondPage = userRepository.findDeadlines(
+                student.getUserId(), lastOfFirstPage.deadline(), lastOfFirstPage.assignmentId(), NOW.plusDays(7), Limit.of(2));
+
+        // then
+        assertEquals(List.of(first.getAssignmentId(), second.getAssignmentId()),
+                firstPage.stream().map(DeadlineDto::assignmentId).toList());
+        assertEquals(List.of(sameDeadline.getAssignmentId()),
+                secondPage.stream().map(DeadlineDto::assignmentId).toList());
+        assertTrue(firstPage.stream().noneMatch(d -> d.assignmentId().equals(past.getAssignmentId())));
+
+        DeadlineDto graded = firstPage.get(1);
+        assertEquals("Mathe", graded.courseTitle());
+        assertEquals(Submission.Status.GRADED, graded.status());
+        assertEquals(1.3, graded.grade());
+        assertNull(firstPage.get(0).submissionId());
+        assertNull(firstPage.get(0).status());
+    }
+
+    @Test
+    @DisplayName("FindDeadlines: sollte jede Aufgabe nur einmal mit der neuesten Abgabe liefern")
+    void shouldReturnEachAssignmentOnce_whenUserHasSeveralSubmissions() {
+        // given
+        Course math = courseRepository.save(Course.builder().title("Mathe").build());
+        User student = userRepository.save(User.builder()
+                .name("Student")
+                .surname("Test")
+                .role(User.Role.STUDENT)
+                .email("several@example.com")
+                .password("password")
+                .coursesList(new HashSet<>(List.of(math)))
+                .build());
+        Assignment first = saveAssignment("Erste", math, NOW.plusDays(1));
+        Assignment second = saveAssignment("Zweite", math, NOW.plusDays(2));
+        submissionRepository.save(Submission.builder()
+                .assignment(first)
+                .student(student)
+                .status(Submission.Status.NOT_SUBMITTED)
+                .build());
+        Submission submitted = submissionRepository.save(Submission.builder()
+                .assignment(first)
+                .student(student)
+                .status(Submission.Status.SUBMITTED)
+                .build());
+
+        // when
+        List<DeadlineDto> firstPage = userRepository.findDeadlines(
+                student.getUserId(), NOW, Long.MIN_VALUE, NOW.plusDays(7), Limit.of(1));
+        List<DeadlineDto> secondPage = userRepository.findDeadlines(
+                student.getUserId(), firstPage.get(0).deadline(), firstPage.get(0).assignmentId(), NOW.plusDays(7), Limit.of(1));
+
+        // then
+        assertEquals(1, firstPage.size());
+        assertEquals(first.getAssignmentId(), firstPage.get(0).assignmentId());
+        assertEquals(submitted.getSubmissionId(), firstPage.get(0).submissionId());
+        assertEquals(Submission.Status.SUBMITTED, firstPage.get(0).status());
+        assertEquals(List.of(second.getAssignmentId()), secondPage.stream().map(DeadlineDto::assignmentId).toList());
+    }
+
+    private Assignment saveAssignment(String title, Course course, LocalDateTime deadline) {
+        return assignmentRepository.save(Assignment.builder()
+                .title(title)
+                .type(Assignment.AssignmentType.HOMEWORK)
+                .deadline(deadline)
+                .course(course)
+                .build());
+    }
+}
@@ -1,5 +1,7 @@
 package com.training.studienplaner.user;
 
+import com.training.studienplaner.auth.RefreshTokenService;
+import com.training.studienplaner.cache.EntityChangeEvent;
 import com.training.studienplaner.course.Course;
 import com.training.studienplaner.course.CourseMapper;
 import com.training.studienplaner.course.CourseResponseDto;
@@ -9,16 +11,24 @@ import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -40,6 +50,18 @@ public class UserServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private UserService userService;
 
@@ -50,6 +72,8 @@ public class UserServiceTest {
         User user = new User();
         UserResponseDto responseDto = mock(UserResponseDto.class);
 
+        when(requestDto.password()).thenReturn("geheim123");
+        when(passwordEncoder.encode("geheim123")).thenReturn("$2a$10$hash");
         when(userMapper.toEntity(requestDto)).thenReturn(user);
         when(userRepository.save(user)).thenReturn(user);
         when(userMapper.toResponseDto(user)).thenReturn(responseDto);
@@ -57,6 +81,7 @@ public class UserServiceTest {
         UserResponseDto result = userService.createUser(requestDto);
 
         assertEquals(responseDto, result);
+        assertEquals("$2a$10$hash", user.getPassword());
         verify(userRepository).save(user);
     }
 
@@ -125,6 +150,48 @@ public class UserServiceTest {
         verify(userRepository).delete(user);
     }
 
+    @Test
+    @DisplayName("Soll die Sitzungen des Benutzers vor dem Löschen widerrufen")
+    void deleteById_shouldRevokeSessionsBeforeDeleting() {
+        User user = User.builder().userId(1L).email("john@example.com").build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        userService.deleteById(1L);
+
+        InOrder inOrder = inOrder(refreshTokenService, userRepository);
+        inOrder.verify(refreshTokenService).revokeSessions(1L);
+        inOrder.verify(userRepository).delete(user);
+    }
+
+    @Test
+    @DisplayName("Soll den gecachten Principal beim Löschen entfernen")
+    void deleteById_shouldEvictCachedPrincipal() {
+        User user = User.builder().userId(1L).email("john@example.com").build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        userService.deleteById(1L);
+
+        verify(userCache).removeUserFromCache("john@example.com");
+    }
+
+    @Test
+    @DisplayName("Soll die Rolle ändern und den gecachten Principal entfernen")
+    void changeRole_shouldUpdateRoleAndEvictCachedPrincipal() {
+        User user = User.builder().userId(1L).email("john@example.com").role(User.Role.STUDENT).build();
+        UserResponseDto responseDto = mock(UserResponseDto.class);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+        when(userMapper.toResponseDto(user)).thenReturn(responseDto);
+
+        UserResponseDto result = userService.changeRole(1L, User.Role.TEACHER);
+
+        assertEquals(responseDto, result);
+        assertEquals(User.Role.TEACHER, user.getRole());
+        verify(userCache).removeUserFromCache("john@example.com");
+        verify(eventPublisher).publishEvent(EntityChangeEvent.user(1L));
+    }
+
     @Test
     @DisplayName("Soll eine Ausnahme werfen, wenn der Benutzer nicht existiert")
     void deleteById_shouldThrowException_whenUserNotFound() {
@@ -193,7 +260,7 @@ public class UserServiceTest {
     @DisplayName("Soll alle Kurse des Benutzers zurückgeben, wenn der Benutzer existiert")
     void getAllCoursesForUser_shouldReturnCourses_whenUserExists() {
         User user = new User();
-        List<Course> courses = List.of(new Course());
+        Set<Course> courses = Set.of(new Course());
         user.setCoursesList(courses);
         List<CourseResponseDto> courseDtos = List.of(mock(CourseResponseDto.class));
 
@@ -218,38 +285,106 @@ public class UserServiceTest {
     }
 
     @Test
-    @DisplayName("Soll den Benutzer in den Kurs einschreiben, wenn Benutzer und Kurs existieren")
+    @DisplayName("Soll den Benutzer in den Kurs einschreiben, ohne seine Kursliste zu laden")
     void enrollUserToCourse_shouldEnrollUser_whenUserAndCourseExist() {
-        Long userId = 1L;
-        Long courseId = 2L;
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.existsById(2L)).thenReturn(true);
+        when(courseRepository.enrollUsers(2L, List.of(1L))).thenReturn(1);
 
-        User user = new User();
-        user.setCoursesList(new ArrayList<>());
+        userService.enrollUserToCourse(1L, 2L);
 
-        Course course = new Course();
-        course.setCourseId(courseId);
+        InOrder inOrder = inOrder(courseRepository);
+        inOrder.verify(courseRepository).incrementVersionOfNewStudents(2L, List.of(1L));
+        inOrder.verify(courseRepository).enrollUsers(2L, List.of(1L));
+        verify(userRepository, never()).findById(anyLong());
+        verify(eventPublisher).publishEvent(EntityChangeEvent.enrollment(1L, 2L));
+    }
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
+    @Test
+    @DisplayName("Erneute Einschreibung soll nichts ändern und kein Ereignis auslösen")
+    void enrollUserToCourse_shouldDoNothing_whenAlreadyEnrolled() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.existsById(2L)).thenReturn(true);
+        when(courseRepository.enrollUsers(2L, List.of(1L))).thenReturn(0);
 
-        userService.enrollUserToCourse(userId, courseId);
+        userService.enrollUserToCourse(1L, 2L);
 
-        assertTrue(user.getCoursesList().contains(course));
-        verify(userRepository).findById(userId);
-        verify(courseRepository).findById(courseId);
-        verify(userRepository).save(user);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
-
-
     @Test
     @DisplayName("Soll eine Ausnahme werfen, wenn der Benutzer nicht gefunden wird")
     void enrollUserToCourse_shouldThrowException_whenUserNotFound() {
-        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+        when(userRepository.existsById(1L)).thenReturn(false);
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> userService.enrollUserToCourse(1L, 1L));
 
         assertEquals("User not found", exception.getMessage());
-        verify(userRepository).findById(1L);
+        verify(courseRepository, never()).enrollUsers(any(), any());
+    }
+
+    @Test
+    @DisplayName("Soll eine Ausnahme werfen, wenn der Kurs nicht gefunden wird")
+    void enrollUserToCourse_shouldThrowException_whenCourseNotFound() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.existsById(2L)).thenReturn(false);
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> userService.enrollUserToCourse(1L, 2L));
+
+        assertEquals("Course not found", exception.getMessage());
+        verify(courseRepository, never()).enrollUsers(any(), any());
+    }
+
+    @Test
+    @DisplayName("Soll eine Seite Fristen mit Cursor auf den letzten Eintrag liefern")
+    void getDeadlines_shouldReturnPageWithNextCursor() {
+        LocalDateTime from = LocalDateTime.of(2025, 3, 1, 0, 0);
+        LocalDateTime to = from.plusDays(14);
+        DeadlineDto first = new DeadlineDto(1L, "A", null, from.plusDays(1), 1L, "Mathe", null, null, null);
+        DeadlineDto second = new DeadlineDto(2L, "B", null, from.plusDays(2), 1L, "Mathe", null, null, null);
+        DeadlineDto third = new DeadlineDto(3L, "C", null, from.plusDays(3), 1L, "Mathe", null, null, null);
+        when(userRepository.findDeadlines(1L, from, Long.MIN_VALUE, to, Limit.of(3)))
+                .thenReturn(List.of(first, second, third));
+
+        DeadlinePageDto page = userService.getDeadlines(1L, from, to, null, 2);
+
+        assertEquals(List.of(first, second), page.items());
+        assertEquals(new DeadlineCursor(second.deadline(), 2L), page.nextCursor());
+        verify(userRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Soll ab dem Cursor weiterblättern und auf der letzten Seite keinen Cursor liefern")
+    void getDeadlines_shouldResumeAfterCursor() {
+        LocalDateTime from = LocalDateTime.of(2025, 3, 1, 0, 0);
+        LocalDateTime to = from.plusDays(14);
+        DeadlineCursor cursor = new DeadlineCursor(from.plusDays(2), 2L);
+        DeadlineDto third = new DeadlineDto(3L, "C", null, from.plusDays(3), 1L, "Mathe", null, null, null);
+        when(userRepository.findDeadlines(1L, cursor.afterDeadline(), 2L, to, Limit.of(3)))
+                .thenReturn(List.of(third));
+
+        DeadlinePageDto page = userService.getDeadlines(1L, from, to, cursor, 2);
+
+        assertEquals(List.of(third), page.items());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Soll eine Ausnahme werfen, wenn der Benutzer für die Fristen nicht existiert")
+    void getDeadlines_shouldThrowException_whenUserNotFound() {
+        LocalDateTime from = LocalDateTime.of(2025, 3, 1, 0, 0);
+        when(userRepository.findDeadlines(eq(1L), any(), any(), any(), any())).thenReturn(List.of());
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> userService.getDeadlines(1L, from, null, null, 50));
+    }
+
+    @Test
+    @DisplayName("Soll ein leeres oder umgekehrtes Zeitfenster ablehnen")
+    void getDeadlines_shouldRejectInvalidWindow() {
+        LocalDateTime from = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> userService.getDeadlines(1L, from, from, null, 50));
+        verifyNoInteractions(userRepository);
     }
 }
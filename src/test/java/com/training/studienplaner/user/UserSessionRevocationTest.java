@@ -0,0 +1,91 @@
+package com.training.studienplaner.user;
+
+import com.training.studienplaner.assignment.Assignment;
+import com.training.studienplaner.assignment.AssignmentRepository;
+import com.training.studienplaner.auth.RefreshTokenService;
+import com.training.studienplaner.auth.TokenResponseDto;
+import com.training.studienplaner.course.Course;
+import com.training.studienplaner.course.CourseRepository;
+import com.training.studienplaner.security.RevokedAccessTokenRepository;
+import com.training.studienplaner.submission.Submission;
+import com.training.studienplaner.submission.SubmissionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doThrow;
+
+// Sessions are revoked in the same transaction as the account change they belong to.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:user-session-revocation;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class UserSessionRevocationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    @SpyBean
+    private RefreshTokenService refreshTokenService;
+
+    @Test
+    @DisplayName("Fehlgeschlagenes Löschen soll die Sitzungen des Benutzers bestehen lassen")
+    void deleteById_shouldKeepSessions_whenDeleteFails() {
+        User student = saveUser("abgabe@uni.de", User.Role.STUDENT);
+        Course course = courseRepository.save(Course.builder().title("Analysis").ects((short) 5).build());
+        Assignment assignment = assignmentRepository.save(Assignment.builder()
+                .title("Blatt 1")
+                .type(Assignment.AssignmentType.HOMEWORK)
+                .course(course)
+                .build());
+        submissionRepository.save(Submission.builder().assignment(assignment).student(student).build());
+        TokenResponseDto tokens = refreshTokenService.issue(student);
+        long revokedBefore = revokedAccessTokenRepository.count();
+
+        assertThrows(DataIntegrityViolationException.class, () -> userService.deleteById(student.getUserId()));
+
+        assertTrue(userRepository.existsById(student.getUserId()));
+        assertEquals(revokedBefore, revokedAccessTokenRepository.count());
+        assertNotNull(refreshTokenService.refresh(tokens.refreshToken()));
+    }
+
+    @Test
+    @DisplayName("Fehlgeschlagener Sitzungswiderruf soll die alte Rolle behalten")
+    void changeRole_shouldKeepRole_whenRevocationFails() {
+        User admin = saveUser("admin@uni.de", User.Role.ADMIN);
+        doThrow(new IllegalStateException("revocation failed"))
+                .when(refreshTokenService).revokeSessions(admin.getUserId());
+
+        assertThrows(IllegalStateException.class, () -> userService.changeRole(admin.getUserId(), User.Role.STUDENT));
+
+        assertEquals(User.Role.ADMIN, userRepository.findById(admin.getUserId()).orElseThrow().getRole());
+    }
+
+    private User saveUser(String email, User.Role role) {
+        return userRepository.save(User.builder()
+                .name("Test")
+                .surname(email)
+                .role(role)
+                .email(email)
+                .password("password")
+                .build());
+    }
+}